@@ -1,7 +1,8 @@
 package es.sfernandez.randomsequence;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -13,32 +14,67 @@ class ArrayRandomSequence<T>
             implements RandomSequence<T> {
 
     //---- Attributes ----
-    private final List<T> sequence = new LinkedList<>();
+    private final Object[] sequence;
 
     //---- Constructor ----
     ArrayRandomSequence(final Iterable<T> sequenceOfElems) {
         if(sequenceOfElems == null) {
             throw new IllegalArgumentException("Error. The sequenceOfElems can't be null.");
         }
-        sequenceOfElems.forEach(sequence::add);
+        List<T> elems = new ArrayList<>();
+        sequenceOfElems.forEach(elems::add);
+        this.sequence = elems.toArray();
+    }
+
+    private ArrayRandomSequence(final Object[] sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * <p>Create an ArrayRandomSequence backed by the array received, without copying it. The array must not be
+     * modified after that.</p>
+     */
+    static <T> ArrayRandomSequence<T> wrapping(final Object[] sequence) {
+        return new ArrayRandomSequence<>(sequence);
     }
 
     //---- Methods ----
     public int length() {
-        return sequence.size();
+        return sequence.length;
     }
 
+    @SuppressWarnings("unchecked")
     public T get(final int position) {
-        try {
-            return sequence.get(position);
-        } catch(IndexOutOfBoundsException ex) {
+        checkPosition(position, sequence.length);
+        return (T) sequence[position];
+    }
+
+    @Override
+    public void copyInto(final T[] array, final int offset) {
+        checkCopy(array, offset, sequence.length);
+        System.arraycopy(sequence, 0, array, offset, sequence.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        return (Iterator<T>) Arrays.asList(sequence).iterator();
+    }
+
+    static void checkPosition(final int position, final int length) {
+        if(position < 0 || position >= length) {
             throw new RandomSequenceException("Error. The position is out of bounds. (position: " + position + ", " +
-                    "bounds: [0, " + sequence.size() + "))");
+                    "bounds: [0, " + length + "))");
         }
     }
 
-    public Iterator<T> iterator() {
-        return sequence.iterator();
+    static void checkCopy(final Object[] array, final int offset, final int length) {
+        if(array == null) {
+            throw new IllegalArgumentException("Error. The array where the sequence is copied can not be null.");
+        }
+        if(offset < 0 || offset > array.length - length) {
+            throw new RandomSequenceException("Error. The sequence doesn't fit in the array from the offset. " +
+                    "(offset: " + offset + ", length: " + length + ", array.length: " + array.length + ")");
+        }
     }
 
 }
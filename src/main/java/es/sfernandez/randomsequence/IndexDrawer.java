@@ -0,0 +1,125 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Random;
+
+/**
+ * <p>An IndexDrawer draws, one by one, the indexes in a {@link Population} of the elements of a random sequence.
+ * Every draw takes O(1), so a sequence can be generated incrementally, as its elements are needed.</p>
+ * <p>Its buffers are kept between sequences, so drawing the same kind of sequences again doesn't allocate
+ * memory.</p>
+ * @author Sergio Fernández
+ */
+final class IndexDrawer {
+
+    //---- Constants and Definitions ----
+    // Without repetition, sequences shorter than populationSize / SPARSE_RATIO are drawn without a pool
+    static final int SPARSE_RATIO = 16;
+
+    //---- Attributes ----
+    private final Random rnd;
+    private final int populationSize;
+    private int[] pool, ring;
+    private SparseIndexSampler sparseSampler;
+    private boolean allowRepetition, sparse;
+    private int window, drawn, activeSize, excluded, oldest;
+
+    //---- Constructor ----
+    IndexDrawer(final Random rnd, final int populationSize) {
+        this.rnd = rnd;
+        this.populationSize = populationSize;
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Prepare the drawer for a new sequence. With repetition allowed, an index won't be drawn again in the next
+     * 'window' draws. Without repetition, the caller must not draw more indexes than the size of the population.</p>
+     * <p>If a few indexes of a big population are expected without repetition, they are drawn by a
+     * {@link SparseIndexSampler}, so the time and memory needed is proportional to the number of draws instead of to
+     * the size of the population.</p>
+     */
+    void start(final boolean allowRepetition, final int window, final int expectedDraws) {
+        finish();
+        this.allowRepetition = allowRepetition;
+        this.window = allowRepetition ? window : 0;
+        this.sparse = !allowRepetition && expectedDraws < populationSize / SPARSE_RATIO;
+        this.drawn = 0;
+        this.excluded = 0;
+        this.oldest = 0;
+        if(sparse) {
+            if(sparseSampler == null) {
+                sparseSampler = new SparseIndexSampler(rnd, expectedDraws);
+            }
+            sparseSampler.start(populationSize, expectedDraws);
+        } else if(!allowRepetition || window > 0) {
+            this.activeSize = pool().length;
+        }
+        if(ring == null || ring.length < this.window) {
+            ring = new int[this.window];
+        }
+    }
+
+    int next() {
+        if(sparse) {
+            return sparseSampler.next();
+        } else if(!allowRepetition) {
+            return nextWithoutRepetition();
+        } else if(window > 0) {
+            return nextWithWindow();
+        } else {
+            return rnd.nextInt(populationSize);
+        }
+    }
+
+    /**
+     * <p>Give back the indexes excluded by the window, so the pool holds all of them again for the next
+     * sequence.</p>
+     */
+    void finish() {
+        for(int i = 0; i < excluded; ++i) {
+            pool[activeSize++] = ring[i];
+        }
+        excluded = 0;
+    }
+
+    /*
+     * Partial Fisher-Yates over the pool of indexes. Any arrangement of the pool is a valid starting point, so it
+     * doesn't need to be restored between sequences.
+     */
+    private int nextWithoutRepetition() {
+        int randomPosition = drawn + rnd.nextInt(pool.length - drawn);
+        int index = pool[randomPosition];
+        pool[randomPosition] = pool[drawn];
+        pool[drawn++] = index;
+        return index;
+    }
+
+    /*
+     * The indexes of the last 'window' draws are kept out of the pool of candidates, so every draw is valid and
+     * takes O(1). Once the window is full, the oldest excluded index takes the place of the drawn one in the pool.
+     */
+    private int nextWithWindow() {
+        int randomPosition = rnd.nextInt(activeSize);
+        int index = pool[randomPosition];
+
+        if(excluded == window) {
+            pool[randomPosition] = ring[oldest];
+            ring[oldest] = index;
+            oldest = (oldest + 1) % window;
+        } else {
+            pool[randomPosition] = pool[--activeSize];
+            ring[excluded++] = index;
+        }
+        return index;
+    }
+
+    private int[] pool() {
+        if(pool == null) {
+            pool = new int[populationSize];
+            for(int i = 0; i < pool.length; ++i) {
+                pool[i] = i;
+            }
+        }
+        return pool;
+    }
+
+}
@@ -0,0 +1,154 @@
+package es.sfernandez.randomsequence;
+
+/**
+ * <p>An IndexStorage holds the indexes in the {@link Population} of the elements of a sequence, using the narrowest
+ * encoding that fits the size of the population.</p>
+ * @author Sergio Fernández
+ */
+abstract class IndexStorage {
+
+    //---- Methods ----
+    abstract int length();
+
+    abstract int get(final int position);
+
+    abstract void set(final int position, final int index);
+
+    /**
+     * <p>Create an IndexStorage for a sequence of 'length' indexes of a population of 'populationSize' elements.</p>
+     * <p>If 'bitPacked' is true, every index uses only the bits needed to represent the greatest index of the
+     * population. It's the most compact encoding, but accessing the indexes is slightly slower.</p>
+     */
+    static IndexStorage forPopulation(final int populationSize, final int length, final boolean bitPacked) {
+        if(bitPacked) {
+            return new BitPacked(length, bitsFor(populationSize));
+        } else if(populationSize <= 1 << Byte.SIZE) {
+            return new OfBytes(length);
+        } else if(populationSize <= 1 << Character.SIZE) {
+            return new OfChars(length);
+        } else {
+            return new OfInts(length);
+        }
+    }
+
+    private static int bitsFor(final int populationSize) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(populationSize - 1));
+    }
+
+    //---- Implementations ----
+    static final class OfBytes extends IndexStorage {
+
+        private final byte[] indexes;
+
+        OfBytes(final int length) {
+            this.indexes = new byte[length];
+        }
+
+        int length() {
+            return indexes.length;
+        }
+
+        int get(final int position) {
+            return indexes[position] & 0xFF;
+        }
+
+        void set(final int position, final int index) {
+            indexes[position] = (byte) index;
+        }
+    }
+
+    static final class OfChars extends IndexStorage {
+
+        private final char[] indexes;
+
+        OfChars(final int length) {
+            this.indexes = new char[length];
+        }
+
+        int length() {
+            return indexes.length;
+        }
+
+        int get(final int position) {
+            return indexes[position];
+        }
+
+        void set(final int position, final int index) {
+            indexes[position] = (char) index;
+        }
+    }
+
+    static final class OfInts extends IndexStorage {
+
+        private int[] indexes;
+        private int length;
+
+        OfInts(final int length) {
+            this.indexes = new int[length];
+            this.length = length;
+        }
+
+        int length() {
+            return length;
+        }
+
+        int capacity() {
+            return indexes.length;
+        }
+
+        int get(final int position) {
+            return indexes[position];
+        }
+
+        void set(final int position, final int index) {
+            indexes[position] = index;
+        }
+
+        // Only grows the array if the new length doesn't fit on it
+        void resize(final int length) {
+            if(indexes.length < length) {
+                indexes = new int[length];
+            }
+            this.length = length;
+        }
+    }
+
+    static final class BitPacked extends IndexStorage {
+
+        private final long[] words;
+        private final int length, bits;
+        private final long mask;
+
+        BitPacked(final int length, final int bits) {
+            this.words = new long[(int) (((long) length * bits + Long.SIZE - 1) / Long.SIZE)];
+            this.length = length;
+            this.bits = bits;
+            this.mask = (1L << bits) - 1;
+        }
+
+        int length() {
+            return length;
+        }
+
+        int get(final int position) {
+            long bitPosition = (long) position * bits;
+            int word = (int) (bitPosition >>> 6), offset = (int) (bitPosition & 63);
+            long value = words[word] >>> offset;
+            if(offset + bits > Long.SIZE) {
+                value |= words[word + 1] << (Long.SIZE - offset);
+            }
+            return (int) (value & mask);
+        }
+
+        void set(final int position, final int index) {
+            long bitPosition = (long) position * bits;
+            int word = (int) (bitPosition >>> 6), offset = (int) (bitPosition & 63);
+            words[word] = (words[word] & ~(mask << offset)) | ((index & mask) << offset);
+            if(offset + bits > Long.SIZE) {
+                int shift = Long.SIZE - offset;
+                words[word + 1] = (words[word + 1] & ~(mask >>> shift)) | ((index & mask) >>> shift);
+            }
+        }
+    }
+
+}
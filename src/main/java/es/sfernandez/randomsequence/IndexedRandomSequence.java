@@ -0,0 +1,123 @@
+package es.sfernandez.randomsequence;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>An implementation of {@link RandomSequence} that stores, for each position, the index of its element in the
+ * {@link Population} of the builder that created it, instead of a reference to the element.</p>
+ * @param <T> Type of elements of the sequence
+ * @author Sergio Fernández
+ */
+class IndexedRandomSequence<T>
+            implements RandomSequence<T> {
+
+    //---- Attributes ----
+    private final Population<T> population;
+    private final IndexStorage indexes;
+    private final boolean withoutRepetition;
+    private volatile IntIntHashMap positions;
+    private volatile Map<Object, Integer> elemPositions;
+
+    //---- Constructor ----
+    IndexedRandomSequence(final Population<T> population, final IndexStorage indexes) {
+        this(population, indexes, false);
+    }
+
+    /**
+     * @param withoutRepetition true if the sequence doesn't contain any index twice, so it's possible to find the
+     *                          position of an element through the inverse of the sequence
+     */
+    IndexedRandomSequence(final Population<T> population, final IndexStorage indexes,
+                          final boolean withoutRepetition) {
+        this.population = population;
+        this.indexes = indexes;
+        this.withoutRepetition = withoutRepetition;
+    }
+
+    //---- Methods ----
+    public int length() {
+        return indexes.length();
+    }
+
+    public T get(final int position) {
+        ArrayRandomSequence.checkPosition(position, indexes.length());
+        return population.get(indexes.get(position));
+    }
+
+    /**
+     * <p>If the sequence doesn't repeat elements, the position is found in O(1) through the inverse of the sequence,
+     * which is computed the first time it's needed. If not, the sequence is traversed.</p>
+     * <p>The inverse of a sequence much shorter than its population maps its own elements, so it costs O(length)
+     * instead of the O(size of the population) of finding their indexes in it.</p>
+     */
+    @Override
+    public int indexOf(final T elem) {
+        if(!withoutRepetition) {
+            return RandomSequence.super.indexOf(elem);
+        }
+        if(isShort()) {
+            return elemPositions().getOrDefault(elem, -1);
+        }
+
+        int index = population.indexOf(elem);
+        if(index == Population.NOT_FOUND) {
+            return -1;
+        } else if(index == Population.AMBIGUOUS) {
+            return RandomSequence.super.indexOf(elem);
+        }
+        return positions().get(index, -1);
+    }
+
+    private boolean isShort() {
+        return indexes.length() < population.size() / IndexDrawer.SPARSE_RATIO;
+    }
+
+    private IntIntHashMap positions() {
+        IntIntHashMap positions = this.positions;
+        if(positions == null) {
+            // Several threads could compute it at the same time, but all of them would compute the same inverse
+            positions = new IntIntHashMap(indexes.length());
+            for(int position = 0; position < indexes.length(); ++position) {
+                positions.put(indexes.get(position), position);
+            }
+            this.positions = positions;
+        }
+        return positions;
+    }
+
+    private Map<Object, Integer> elemPositions() {
+        Map<Object, Integer> elemPositions = this.elemPositions;
+        if(elemPositions == null) {
+            // The population can contain the same reference several times, so only its first position is kept
+            elemPositions = new IdentityHashMap<>(indexes.length());
+            for(int position = 0; position < indexes.length(); ++position) {
+                elemPositions.putIfAbsent(population.get(indexes.get(position)), position);
+            }
+            this.elemPositions = elemPositions;
+        }
+        return elemPositions;
+    }
+
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < indexes.length();
+            }
+
+            @Override
+            public T next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return population.get(indexes.get(position++));
+            }
+        };
+    }
+
+}
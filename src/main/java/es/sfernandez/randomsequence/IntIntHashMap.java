@@ -0,0 +1,108 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Arrays;
+
+/**
+ * <p>A hash map from non-negative int keys to int values that stores them in primitive arrays, using open
+ * addressing with linear probing. It avoids boxing when only a few of the indexes of a big population are
+ * relevant.</p>
+ * @author Sergio Fernández
+ */
+final class IntIntHashMap {
+
+    //---- Constants and Definitions ----
+    private static final int EMPTY = -1;
+    private static final int SHRINK_RATIO = 4;
+
+    //---- Attributes ----
+    private int[] keys, values;
+    private int size, mask;
+
+    //---- Constructor ----
+    IntIntHashMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    //---- Methods ----
+    int size() {
+        return size;
+    }
+
+    int get(final int key, final int defaultValue) {
+        for(int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            if(keys[slot] == key) {
+                return values[slot];
+            } else if(keys[slot] == EMPTY) {
+                return defaultValue;
+            }
+        }
+    }
+
+    void put(final int key, final int value) {
+        int slot = slotOf(key);
+        while(keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        boolean added = keys[slot] == EMPTY;
+        keys[slot] = key;
+        values[slot] = value;
+        if(added && ++size > keys.length / 2) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    void clear() {
+        if(size > 0) {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+    }
+
+    /**
+     * <p>Remove all the keys, preparing the map for 'expectedSize' keys. If its capacity is far greater than needed,
+     * because it grew for many more keys before, it's reallocated, so clearing it and keeping it cost O(expectedSize)
+     * instead of O(the greatest size it has ever had).</p>
+     */
+    void clear(final int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if(keys.length > (long) capacity * SHRINK_RATIO) {
+            allocate(capacity);
+            size = 0;
+        } else {
+            clear();
+        }
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        return Math.max(4, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+    }
+
+    private int slotOf(final int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private void rehash(final int capacity) {
+        int[] oldKeys = keys, oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for(int i = 0; i < oldKeys.length; ++i) {
+            if(oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package es.sfernandez.randomsequence;
+
+/**
+ * <p>A KeyedPermutation is a pseudo-random bijection over [0, size) determined by a seed. Every position can be
+ * mapped independently in O(1), so any range of the permutation can be computed without computing the rest.</p>
+ * <p>It's built as a balanced Feistel network over the smallest power of 4 that contains 'size', using cycle-walking
+ * to map back into [0, size). As that domain is, at most, four times greater than 'size', a position needs four
+ * encryptions on average.</p>
+ * @author Sergio Fernández
+ */
+final class KeyedPermutation {
+
+    //---- Constants and Definitions ----
+    private static final int ROUNDS = 6;
+
+    //---- Attributes ----
+    private final int size, halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    //---- Constructor ----
+    KeyedPermutation(final int size, final long seed) {
+        int bits = Math.max(2, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, size - 1)));
+        this.size = size;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        long state = seed;
+        for(int i = 0; i < ROUNDS; ++i) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    //---- Methods ----
+    int apply(final int position) {
+        long value = position;
+        do {
+            value = encrypt(value);
+        } while(value >= size);
+        return (int) value;
+    }
+
+    private long encrypt(final long value) {
+        long left = value >>> halfBits, right = value & halfMask;
+        for(long key : roundKeys) {
+            long aux = right;
+            right = left ^ (mix(right ^ key) & halfMask);
+            left = aux;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // Finalizer of SplitMix64
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
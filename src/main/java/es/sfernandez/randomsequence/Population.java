@@ -0,0 +1,71 @@
+package es.sfernandez.randomsequence;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>The elements available to a {@link RandomSequenceBuilder}. It's never modified, so it's shared by all the
+ * sequences created by the builder, which only store the indexes of their elements in it.</p>
+ * @param <T> Type of elements of the population
+ * @author Sergio Fernández
+ */
+final class Population<T> {
+
+    //---- Constants and Definitions ----
+    static final int NOT_FOUND = -1, AMBIGUOUS = -2;
+
+    //---- Attributes ----
+    private final Object[] elems;
+    private volatile Map<Object, Integer> indexes;
+
+    //---- Constructor ----
+    Population(final Iterable<T> elems) {
+        List<T> copy = new ArrayList<>();
+        elems.forEach(copy::add);
+        this.elems = copy.toArray();
+    }
+
+    //---- Methods ----
+    int size() {
+        return elems.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(final int index) {
+        return (T) elems[index];
+    }
+
+    /**
+     * <p>Return the index of the element in the population, comparing by reference. The map of indexes is built the
+     * first time it's needed.</p>
+     * @return the index of the element, NOT_FOUND if it isn't part of the population or AMBIGUOUS if it appears
+     * several times in it
+     */
+    int indexOf(final Object elem) {
+        Map<Object, Integer> indexes = this.indexes;
+        if(indexes == null) {
+            // Several threads could build it at the same time, but all of them would build the same map
+            indexes = buildIndexes();
+            this.indexes = indexes;
+        }
+        return indexes.getOrDefault(elem, NOT_FOUND);
+    }
+
+    private Map<Object, Integer> buildIndexes() {
+        Map<Object, Integer> indexes = new IdentityHashMap<>(elems.length);
+        for(int i = 0; i < elems.length; ++i) {
+            if(indexes.putIfAbsent(elems[i], i) != null) {
+                indexes.put(elems[i], AMBIGUOUS);
+            }
+        }
+        return indexes;
+    }
+
+    // Visible for testing only. I don't use @VisibleForTesting because I would have to import too many dependencies
+    boolean hasIndexes() {
+        return indexes != null;
+    }
+
+}
@@ -0,0 +1,186 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A RandomElementPublisher is a {@link Flow.Publisher} that emits random elements configured by a
+ * {@link RandomSequenceBuilder}, without creating the whole {@link RandomSequence}.</p>
+ * <p>Each subscriber receives its own random elements. They are drawn only when the subscriber requests them, so a
+ * slow subscriber never makes the publisher buffer elements. Elements are emitted on the thread that requests
+ * them.</p>
+ * <p>It can emit a finite sequence, with the length and repetition configured in the builder, or an unbounded
+ * stream of elements, if repetition is allowed. The configuration of the builder is copied when the publisher is
+ * created, so later changes don't affect it.</p>
+ * <p>An example of use:
+ * <pre>
+ * <code>
+ * Flow.Publisher<Coin> flips = RandomElementPublisher.unbounded(
+ *      new RandomSequenceBuilder<>(Coin.HEADS, Coin.TAILS).allowRepetition());
+ * </code>
+ * </pre>
+ * </p>
+ * @param <T> Type of elements emitted
+ * @see RandomSequenceBuilder
+ * @author Sergio Fernández
+ */
+public final class RandomElementPublisher<T>
+            implements Flow.Publisher<T> {
+
+    //---- Constants and Definitions ----
+    private static final long UNBOUNDED = -1;
+
+    //---- Attributes ----
+    private final Population<T> population;
+    private final boolean allowRepetition;
+    private final int window;
+    private final long length;
+
+    //---- Constructor ----
+    private RandomElementPublisher(final Population<T> population, final boolean allowRepetition, final int window,
+                                   final long length) {
+        this.population = population;
+        this.allowRepetition = allowRepetition;
+        this.window = window;
+        this.length = length;
+    }
+
+    /**
+     * <p>Instantiate a new RandomElementPublisher that emits to each subscriber the elements of one sequence created
+     * according to the current configuration of the builder, and then completes.</p>
+     * @param builder Builder whose configuration is used
+     * @return a new RandomElementPublisher
+     * @throws IllegalArgumentException if the builder is null
+     * @throws RandomSequenceException if the builder can't create sequences with its current configuration
+     */
+    public static <T> RandomElementPublisher<T> finite(final RandomSequenceBuilder<T> builder) {
+        checkNotNull(builder);
+        Optional<RandomSequenceException> validationException = builder.validate();
+        if(validationException.isPresent()) {
+            throw validationException.get();
+        }
+
+        return new RandomElementPublisher<>(builder.population(), builder.allowsRepetition(),
+                builder.effectiveWindow(), builder.length());
+    }
+
+    /**
+     * <p>Instantiate a new RandomElementPublisher that emits to each subscriber random elements of the builder until
+     * it cancels the subscription. The length configured in the builder is ignored.</p>
+     * @param builder Builder whose configuration is used. It must allow repetition
+     * @return a new RandomElementPublisher
+     * @throws IllegalArgumentException if the builder is null
+     * @throws RandomSequenceException if the builder doesn't allow repetition, it hasn't got elements, or they
+     * aren't more than its window of no repetition
+     */
+    public static <T> RandomElementPublisher<T> unbounded(final RandomSequenceBuilder<T> builder) {
+        checkNotNull(builder);
+        if(!builder.allowsRepetition()) {
+            throw new RandomSequenceException("Error. An unbounded publisher requires to allow repetition.");
+        }
+        if(builder.repetitionWindow() >= builder.population().size()) {
+            throw new RandomSequenceException("Error. An unbounded publisher requires more elements than the window " +
+                    "of no repetition. (window=" + builder.repetitionWindow() + ", elements.size()=" +
+                    builder.population().size() + ")");
+        }
+
+        return new RandomElementPublisher<>(builder.population(), true, builder.repetitionWindow(), UNBOUNDED);
+    }
+
+    private static void checkNotNull(final RandomSequenceBuilder<?> builder) {
+        if(builder == null) {
+            throw new IllegalArgumentException("Error. The builder of the publisher can not be null.");
+        }
+    }
+
+    //---- Methods ----
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        if(subscriber == null) {
+            throw new NullPointerException("Error. The subscriber can not be null.");
+        }
+
+        RandomElementSubscription subscription = new RandomElementSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        // Completes the empty sequences without waiting for a request
+        subscription.drain();
+    }
+
+    //---- Subscription ----
+    private final class RandomElementSubscription
+                implements Flow.Subscription {
+
+        //---- Attributes ----
+        private final Flow.Subscriber<? super T> subscriber;
+        private final IndexDrawer drawer;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean done = false;
+        private volatile IllegalArgumentException invalidRequest = null;
+        private long emitted = 0;
+
+        //---- Constructor ----
+        private RandomElementSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.drawer = new IndexDrawer(new Random(), population.size());
+            this.drawer.start(allowRepetition, window, length == UNBOUNDED ? Integer.MAX_VALUE : (int) length);
+        }
+
+        //---- Methods ----
+        @Override
+        public void request(final long n) {
+            if(n <= 0) {
+                invalidRequest = new IllegalArgumentException("Error. The number of elements requested must be " +
+                        "greater than 0. (n=" + n + ")");
+            } else {
+                requested.getAndAccumulate(n, (current, added) -> current + added < 0 ?
+                        Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        /*
+         * Only one thread emits at a time. Requests made meanwhile, even from onNext(), are served by the thread that
+         * is already emitting, which checks the pending drains before leaving.
+         */
+        private void drain() {
+            if(pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                long demand = requested.get(), sent = 0;
+                while(!done) {
+                    if(invalidRequest != null) {
+                        done = true;
+                        subscriber.onError(invalidRequest);
+                    } else if(emitted == length) {
+                        done = true;
+                        subscriber.onComplete();
+                    } else if(sent == demand) {
+                        break;
+                    } else {
+                        ++sent;
+                        ++emitted;
+                        subscriber.onNext(population.get(drawer.next()));
+                    }
+                }
+
+                if(sent != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-sent);
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while(missed != 0);
+        }
+    }
+
+}
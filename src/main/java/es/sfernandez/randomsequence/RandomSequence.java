@@ -1,5 +1,9 @@
 package es.sfernandez.randomsequence;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * <p>A RandomSequence represents an ordered sequence of elements that have been disposed randomly by a
  * {@link RandomSequenceBuilder}.</p>
@@ -24,4 +28,105 @@ public interface RandomSequence<T>
      */
     T get(final int position);
 
+    /**
+     * <p>Return a view of the positions [from, to) of the sequence. The view shares the elements of this sequence,
+     * so it's created in O(1) without copying them.</p>
+     * @param from First position of the view, inclusive
+     * @param to Last position of the view, exclusive
+     * @return a view of the positions of the sequence
+     * @throws RandomSequenceException if the positions are out of bounds or from is greater than to
+     */
+    default RandomSequence<T> subSequence(final int from, final int to) {
+        if(from < 0 || to > length() || from > to) {
+            throw new RandomSequenceException("Error. The positions of the subsequence are out of bounds. (from: " +
+                    from + ", to: " + to + ", bounds: [0, " + length() + "])");
+        }
+        return RandomSequenceView.of(this, from, 1, to - from);
+    }
+
+    /**
+     * <p>Split the sequence in 'hands' views, dealing its elements one by one in turn, like dealing cards. The first
+     * hands receive one more element if the length of the sequence isn't a multiple of 'hands'.</p>
+     * <p>The views share the elements of this sequence, so they are created without copying them.</p>
+     * @param hands Number of views in which the sequence is split
+     * @return a list with the views, in the order in which they receive the elements
+     * @throws RandomSequenceException if hands is less or equal to 0
+     */
+    default List<RandomSequence<T>> deal(final int hands) {
+        if(hands <= 0) {
+            throw new RandomSequenceException("Error. The number of hands must be greater than 0. (hands=" +
+                    hands + ")");
+        }
+
+        List<RandomSequence<T>> dealt = new ArrayList<>(hands);
+        for(int hand = 0; hand < hands; ++hand) {
+            int handLength = Math.max(0, (length() - hand + hands - 1) / hands);
+            dealt.add(RandomSequenceView.of(this, hand, hands, handLength));
+        }
+        return dealt;
+    }
+
+    /**
+     * <p>Return the first position of the element in the sequence. Elements are compared by reference, as
+     * sequences are made of the same objects available to the builder.</p>
+     * <p>Sequences generated without repetition find it in O(1). Others traverse the sequence.</p>
+     * @param elem Element to look for
+     * @return the position of the element, or -1 if the sequence doesn't contain it
+     */
+    default int indexOf(final T elem) {
+        for(int i = 0; i < length(); ++i) {
+            if(get(i) == elem) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param elem Element to look for
+     * @return true if the element is part of the sequence. Elements are compared by reference
+     * @see #indexOf(Object)
+     */
+    default boolean contains(final T elem) {
+        return indexOf(elem) >= 0;
+    }
+
+    /**
+     * <p>Copy the elements of the sequence, in order, into the array received starting at 'offset'.</p>
+     * @param array Array where the elements are copied
+     * @param offset Position of the array where the first element is copied
+     * @throws IllegalArgumentException if the array is null
+     * @throws RandomSequenceException if the sequence doesn't fit in the array from the offset
+     */
+    default void copyInto(final T[] array, final int offset) {
+        ArrayRandomSequence.checkCopy(array, offset, length());
+        for(int i = 0; i < length(); ++i) {
+            array[offset + i] = get(i);
+        }
+    }
+
+    /**
+     * <p>Return an array with the elements of the sequence, in order. If they fit in the array received, it's used.
+     * If not, a new array of the same type is allocated.</p>
+     * <p>If the array received is longer than the sequence, the position after the last element is set to null.</p>
+     * @param array Array where the elements are stored, if it's big enough
+     * @return the array with the elements of the sequence
+     * @throws IllegalArgumentException if the array is null
+     */
+    @SuppressWarnings("unchecked")
+    default T[] toArray(final T[] array) {
+        if(array == null) {
+            throw new IllegalArgumentException("Error. The array where the sequence is copied can not be null.");
+        }
+
+        int length = length();
+        T[] target = array.length >= length ?
+                array : (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+        copyInto(target, 0);
+        if(target.length > length) {
+            target[length] = null;
+        }
+        return target;
+    }
+
 }
@@ -0,0 +1,169 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * <p>A RandomSequenceBuffer is a reusable {@link RandomSequence} whose content is regenerated in place by
+ * {@link RandomSequenceBuilder#createInto(RandomSequenceBuffer)}.</p>
+ * <p>It keeps its storage between generations and only grows it when a longer sequence is requested, so it allows
+ * generating sequences in tight loops without allocating memory.</p>
+ * <p>Parts of the sequence can also be reshuffled in place, without generating it again. Reshuffling only changes
+ * the order of the elements, so a sequence without repetition keeps having each element once.</p>
+ * <p>An example of use:
+ * <pre>
+ * <code>
+ * RandomSequenceBuffer<Card> deck = new RandomSequenceBuffer<>(cards.length);
+ * RandomSequenceBuilder<Card> builder = new RandomSequenceBuilder<>(cards);
+ * for(int round = 0; round < rounds; ++round) {
+ *     builder.createInto(deck);
+ *     play(deck);
+ * }
+ * </code>
+ * </pre>
+ * </p>
+ * @param <T> Type of elements of the sequence
+ * @author Sergio Fernández
+ */
+public final class RandomSequenceBuffer<T>
+            implements RandomSequence<T> {
+
+    //---- Constants and Definitions ----
+    // The buffers of reshuffle(k) are reallocated when they are this many times bigger than needed
+    private static final int SHRINK_RATIO = 4;
+
+    //---- Attributes ----
+    private final Random rnd = new Random();
+    private Population<T> population;
+    private final IndexStorage.OfInts indexes;
+    // Kept between calls to reshuffle(k), so reshuffling a similar number of positions again doesn't allocate memory
+    private SparseIndexSampler positionSampler;
+    private int[] positions = new int[0], values = new int[0];
+
+    //---- Constructor ----
+    /**
+     * <p>Instantiate a new empty RandomSequenceBuffer.</p>
+     */
+    public RandomSequenceBuffer() {
+        this(0);
+    }
+
+    /**
+     * <p>Instantiate a new empty RandomSequenceBuffer able to store sequences of 'capacity' elements without
+     * growing.</p>
+     * @param capacity Initial capacity of the buffer
+     * @throws RandomSequenceException if the capacity is less than 0.
+     */
+    public RandomSequenceBuffer(final int capacity) {
+        if(capacity < 0) {
+            throw new RandomSequenceException("Error. The capacity of the buffer must be greater or equal to 0." +
+                    " (capacity=" + capacity + ")");
+        }
+        this.population = null;
+        this.indexes = new IndexStorage.OfInts(capacity);
+        this.indexes.resize(0);
+    }
+
+    //---- Methods ----
+    public int length() {
+        return indexes.length();
+    }
+
+    /**
+     * @return the number of elements that the buffer can store without growing
+     */
+    public int capacity() {
+        return indexes.capacity();
+    }
+
+    public T get(final int position) {
+        ArrayRandomSequence.checkPosition(position, indexes.length());
+        return population.get(indexes.get(position));
+    }
+
+    /**
+     * <p>Shuffle again the elements of the positions [from, to), leaving the rest of the sequence unchanged. Every
+     * order of those elements is equally likely. It takes O(to - from).</p>
+     * <p>For example, it allows reshuffling the elements that haven't been dealt yet.</p>
+     * @param from First position to reshuffle, inclusive
+     * @param to Last position to reshuffle, exclusive
+     * @throws RandomSequenceException if the positions are out of bounds or from is greater than to
+     */
+    public void reshuffle(final int from, final int to) {
+        if(from < 0 || to > indexes.length() || from > to) {
+            throw new RandomSequenceException("Error. The positions to reshuffle are out of bounds. (from: " + from +
+                    ", to: " + to + ", bounds: [0, " + indexes.length() + "])");
+        }
+
+        for(int i = to - 1; i > from; --i) {
+            swap(i, from + rnd.nextInt(i - from + 1));
+        }
+    }
+
+    /**
+     * <p>Choose 'k' random positions of the sequence and shuffle again their elements, leaving the rest of the
+     * sequence unchanged. Every set of positions and every order of their elements is equally likely. It takes
+     * O(k), regardless of the length of the sequence and of the number of positions reshuffled by previous calls.</p>
+     * @param k Number of positions to reshuffle
+     * @throws RandomSequenceException if k is negative or greater than the length of the sequence
+     */
+    public void reshuffle(final int k) {
+        if(k < 0 || k > indexes.length()) {
+            throw new RandomSequenceException("Error. The number of positions to reshuffle must be in [0, length]. " +
+                    "(k: " + k + ", length: " + indexes.length() + ")");
+        }
+
+        if(positionSampler == null) {
+            positionSampler = new SparseIndexSampler(rnd, k);
+        }
+        if(positions.length < k || positions.length > (long) k * SHRINK_RATIO) {
+            positions = new int[k];
+            values = new int[k];
+        }
+        positionSampler.start(indexes.length(), k);
+        for(int i = 0; i < k; ++i) {
+            positions[i] = positionSampler.next();
+            values[i] = indexes.get(positions[i]);
+        }
+
+        for(int i = k - 1; i >= 0; --i) {
+            int randomPosition = rnd.nextInt(i + 1);
+            indexes.set(positions[i], values[randomPosition]);
+            values[randomPosition] = values[i];
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        int aux = indexes.get(i);
+        indexes.set(i, indexes.get(j));
+        indexes.set(j, aux);
+    }
+
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < indexes.length();
+            }
+
+            @Override
+            public T next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return population.get(indexes.get(position++));
+            }
+        };
+    }
+
+    // Returns the storage where a sequence of the given length of elements of the population will be generated
+    IndexStorage prepare(final Population<T> population, final int length) {
+        this.population = population;
+        indexes.resize(length);
+        return indexes;
+    }
+
+}
@@ -25,9 +25,10 @@ import java.util.*;
 public final class RandomSequenceBuilder<T> {
 
     //---- Attributes ----
-    private final Random rnd;
-    private final List<T> availableElems, remainingElems;
-    private boolean allowRepetition;
+    private final Population<T> population;
+    private final IndexDrawer drawer;
+    private boolean allowRepetition, bitPackedStorage;
+    private int repetitionWindow;
     private int length;
 
     //---- Constructor ----
@@ -56,10 +57,8 @@ public final class RandomSequenceBuilder<T> {
             throw new IllegalArgumentException("Error. The iterable of elements available to generate the sequence " +
                     "can not be null.");
         }
-        this.rnd = new Random();
-        this.availableElems = new ArrayList<>();
-        this.remainingElems = new ArrayList<>();
-        elems.forEach(this.availableElems::add);
+        this.population = new Population<>(elems);
+        this.drawer = new IndexDrawer(new Random(), population.size());
 
         notAllowRepetition();
         withFullLength();
@@ -73,6 +72,30 @@ public final class RandomSequenceBuilder<T> {
      */
     public RandomSequenceBuilder<T> allowRepetition() {
         this.allowRepetition = true;
+        this.repetitionWindow = 0;
+        return this;
+    }
+
+    /**
+     * <p>Configure the builder to allow repetition of elements in the same sequence, but never inside a window of
+     * consecutive positions. That means that an element won't appear again until, at least, other 'window'
+     * elements have appeared after it.</p>
+     * <p>A window of 0 behaves exactly like {@link #allowRepetition()}.</p>
+     * <p><u>Note</u>: the amount of elements available must be greater than the window (or than the length of the
+     * sequence minus one, if it's smaller). If not, a RandomSequenceException will be thrown trying to create a
+     * sequence.</p>
+     * @param window Number of positions after an element in which it can't appear again
+     * @throws RandomSequenceException if the window is less than 0.
+     * @return the reference of the builder
+     */
+    public RandomSequenceBuilder<T> allowRepetitionOutsideWindow(final int window) {
+        if(window < 0) {
+            throw new RandomSequenceException("Error. The window of no repetition must be greater or equal to 0." +
+                    " (window=" + window + ")");
+        }
+
+        this.allowRepetition = true;
+        this.repetitionWindow = window;
         return this;
     }
 
@@ -92,7 +115,7 @@ public final class RandomSequenceBuilder<T> {
      * @return the reference of the builder
      */
     public RandomSequenceBuilder<T> withFullLength() {
-        this.length = availableElems.size();
+        this.length = population.size();
         return this;
     }
 
@@ -114,9 +137,35 @@ public final class RandomSequenceBuilder<T> {
         return this;
     }
 
+    /**
+     * <p>Configure the builder to store the sequences using only the bits needed to identify each element available.
+     * It's the most compact storage, which is useful to hold a lot of sequences in memory, but reading them is
+     * slightly slower.</p>
+     * <p>By default, sequences use one byte per element if there are up to 256 elements available, two bytes if there
+     * are up to 65536, and four bytes otherwise.</p>
+     * @return the reference of the builder
+     */
+    public RandomSequenceBuilder<T> withBitPackedStorage() {
+        this.bitPackedStorage = true;
+        return this;
+    }
+
+    /**
+     * <p>Configure the builder to store the sequences using the narrowest type of integer that can identify each
+     * element available. This is the default behaviour.</p>
+     * @return the reference of the builder
+     */
+    public RandomSequenceBuilder<T> withAlignedStorage() {
+        this.bitPackedStorage = false;
+        return this;
+    }
+
     /**
      * <p>Create a new RandomSequence according to the current configuration.</p>
-     * @throws RandomSequenceException if configured length is greater than the amount of elements available and repetition isn't allowed
+     * @throws RandomSequenceException if configured length is greater than the amount of elements available and
+     * repetition isn't allowed, if repetition is only allowed outside a window and the elements available aren't
+     * more than the window, or if repetition is allowed and the sequence isn't empty but there aren't elements
+     * available
      * @return a new {@link RandomSequence}
      */
     public RandomSequence<T> create() {
@@ -124,37 +173,142 @@ public final class RandomSequenceBuilder<T> {
         if(validationException.isPresent()) {
             throw validationException.get();
         } else {
-            resetRemainingElems();
-            return createRandomSequence();
+            IndexStorage sequence = IndexStorage.forPopulation(population.size(), length, bitPackedStorage);
+            generate(sequence);
+            return new IndexedRandomSequence<>(population, sequence, !allowRepetition);
         }
     }
 
-    private Optional<RandomSequenceException> validate() {
-        if(!allowRepetition && length > availableElems.size()) {
+    /**
+     * <p>Generate a new random sequence according to the current configuration, storing it in the buffer received
+     * instead of creating a new {@link RandomSequence}.</p>
+     * <p>The buffer only allocates memory if its capacity is smaller than the configured length, so reusing the same
+     * buffer and configuration doesn't perform any allocation.</p>
+     * @param buffer Buffer where the sequence will be stored. Its previous content is discarded
+     * @throws IllegalArgumentException if the buffer is null
+     * @throws RandomSequenceException if configured length is greater than the amount of elements available and
+     * repetition isn't allowed, if repetition is only allowed outside a window and the elements available aren't
+     * more than the window, or if repetition is allowed and the sequence isn't empty but there aren't elements
+     * available
+     * @return the buffer received
+     */
+    public RandomSequenceBuffer<T> createInto(final RandomSequenceBuffer<T> buffer) {
+        if(buffer == null) {
+            throw new IllegalArgumentException("Error. The buffer where the sequence is created can not be null.");
+        }
+
+        Optional<RandomSequenceException> validationException = validate();
+        if(validationException.isPresent()) {
+            throw validationException.get();
+        } else {
+            generate(buffer.prepare(population, length));
+            return buffer;
+        }
+    }
+
+    /**
+     * <p>Create the part of a sequence that corresponds to one shard, when the sequence is split in 'shardCount'
+     * contiguous ranges of positions.</p>
+     * <p>The whole sequence is determined only by the seed and the current configuration, so builders with the same
+     * elements, configuration and seed (e.g. in different machines) generate the shards of the same sequence without
+     * any coordination. If repetition isn't allowed, the shards never share an element. The cost is proportional to
+     * the length of the shard.</p>
+     * <p><u>Note</u>: sequences generated by shards don't support a window of no repetition.</p>
+     * @param seed Seed that determines the whole sequence
+     * @param shard Index of the shard to create, in [0, shardCount)
+     * @param shardCount Number of shards in which the sequence is split
+     * @throws RandomSequenceException if the shard is out of bounds, if the builder is configured with a window of
+     * no repetition, if configured length is greater than the amount of elements available and repetition isn't
+     * allowed, or if repetition is allowed and the sequence isn't empty but there aren't elements available
+     * @return a new {@link RandomSequence} with the positions of the shard
+     */
+    public RandomSequence<T> createShard(final long seed, final int shard, final int shardCount) {
+        if(shardCount <= 0 || shard < 0 || shard >= shardCount) {
+            throw new RandomSequenceException("Error. The shard must be in [0, shardCount) and shardCount must be " +
+                    "greater than 0. (shard=" + shard + ", shardCount=" + shardCount + ")");
+        }
+        if(allowRepetition && effectiveWindow() > 0) {
+            throw new RandomSequenceException("Error. Sequences generated by shards don't support a window of no " +
+                    "repetition. (window=" + repetitionWindow + ")");
+        }
+
+        Optional<RandomSequenceException> validationException = validate();
+        if(validationException.isPresent()) {
+            throw validationException.get();
+        } else {
+            int from = (int) ((long) length * shard / shardCount);
+            int to = (int) ((long) length * (shard + 1) / shardCount);
+            IndexStorage sequence = IndexStorage.forPopulation(population.size(), to - from, bitPackedStorage);
+            generateShard(sequence, seed, from);
+            return new IndexedRandomSequence<>(population, sequence, !allowRepetition);
+        }
+    }
+
+    Optional<RandomSequenceException> validate() {
+        if(!allowRepetition && length > population.size()) {
             return Optional.of(new RandomSequenceException("Error. If repetition isn't allowed, then the length of the sequence must be " +
                     "less or equal to the number of elements available. (length=" + length + ", elements.size()=" +
-                    availableElems.size() + ")"));
+                    population.size() + ")"));
+        }
+
+        if(allowRepetition && length > 0 && population.size() == 0) {
+            return Optional.of(new RandomSequenceException("Error. If repetition is allowed, then there must be " +
+                    "elements available to generate a non empty sequence. (length=" + length + ")"));
+        }
+
+        if(allowRepetition && effectiveWindow() > 0 && effectiveWindow() >= population.size()) {
+            return Optional.of(new RandomSequenceException("Error. If repetition is only allowed outside a window, " +
+                    "then the number of elements available must be greater than the window. (window=" +
+                    effectiveWindow() + ", elements.size()=" + population.size() + ")"));
         }
 
         return Optional.empty();
     }
 
-    private RandomSequence<T> createRandomSequence() {
-        List<T> sequence = new ArrayList<>();
+    private void generate(final IndexStorage sequence) {
+        drawer.start(allowRepetition, effectiveWindow(), length);
         for(int i = 0; i < length; ++i) {
-            sequence.add(getRandomElem());
+            sequence.set(i, drawer.next());
+        }
+        drawer.finish();
+    }
+
+    /*
+     * Without repetition, the sequence is the prefix of a permutation of the population determined by the seed. With
+     * repetition, the element of each position is chosen by hashing the seed and the position.
+     */
+    private void generateShard(final IndexStorage sequence, final long seed, final int from) {
+        if(!allowRepetition) {
+            KeyedPermutation permutation = new KeyedPermutation(population.size(), seed);
+            for(int i = 0; i < sequence.length(); ++i) {
+                sequence.set(i, permutation.apply(from + i));
+            }
+        } else {
+            for(int i = 0; i < sequence.length(); ++i) {
+                long hash = KeyedPermutation.mix(seed ^ KeyedPermutation.mix(from + i));
+                sequence.set(i, (int) ((hash >>> 1) % population.size()));
+            }
         }
-        return new ArrayRandomSequence<>(sequence);
     }
 
-    private void resetRemainingElems() {
-        remainingElems.clear();
-        remainingElems.addAll(availableElems);
+    int effectiveWindow() {
+        return Math.max(0, Math.min(repetitionWindow, length - 1));
+    }
+
+    // Used by RandomElementPublisher to draw the elements of the sequences incrementally
+    Population<T> population() {
+        return population;
+    }
+
+    boolean allowsRepetition() {
+        return allowRepetition;
+    }
+
+    int repetitionWindow() {
+        return repetitionWindow;
     }
 
-    private T getRandomElem() {
-        int randomPosition = rnd.nextInt(remainingElems.size());
-        return allowRepetition ?
-                remainingElems.get(randomPosition) : remainingElems.remove(randomPosition);
+    int length() {
+        return length;
     }
 }
@@ -0,0 +1,140 @@
+package es.sfernandez.randomsequence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A RandomSequenceDispenser hands out the elements of a {@link RandomSequence} to several threads, in order and
+ * exactly once each, without using locks. Positions are claimed through an atomic cursor.</p>
+ * <p>To reduce the contention on the cursor, it can be configured to claim positions in batches for each thread.
+ * Positions claimed by a thread are only dispensed to it, so elements can remain undispensed while other threads
+ * find the dispenser exhausted, and elements are no longer dispensed in global order. For that reason,
+ * {@link #isExhausted()} and {@link #remaining()} take into account the positions claimed by the calling thread that
+ * haven't been dispensed to it yet, but not the ones claimed by other threads.</p>
+ * <p>An example of use:
+ * <pre>
+ * <code>
+ * RandomSequenceDispenser<Card> dealer = new RandomSequenceDispenser<>(deck);
+ *   // From any thread
+ *   while(!dealer.isExhausted()) {
+ *       RandomSequence<Card> cards = dealer.nextBatch(2);
+ *       play(cards);
+ *   }
+ * </code>
+ * </pre>
+ * </p>
+ * @param <T> Type of elements of the sequence
+ * @see RandomSequence
+ * @author Sergio Fernández
+ */
+public final class RandomSequenceDispenser<T> {
+
+    //---- Attributes ----
+    private final RandomSequence<T> sequence;
+    private final int batchSize;
+    private final AtomicLong cursor = new AtomicLong();
+    // [next position, end position) of the batch claimed by each thread
+    private final ThreadLocal<int[]> claimed = ThreadLocal.withInitial(() -> new int[2]);
+
+    //---- Constructor ----
+    /**
+     * <p>Instantiate a new RandomSequenceDispenser that dispenses the elements of the sequence one by one.</p>
+     * @param sequence Sequence whose elements are dispensed
+     * @throws IllegalArgumentException if the sequence is null
+     */
+    public RandomSequenceDispenser(final RandomSequence<T> sequence) {
+        this(sequence, 1);
+    }
+
+    /**
+     * <p>Instantiate a new RandomSequenceDispenser in which each thread claims 'batchSize' positions of the sequence
+     * at once, and {@link #next()} dispenses them before claiming more.</p>
+     * @param sequence Sequence whose elements are dispensed
+     * @param batchSize Number of positions claimed at once by each thread
+     * @throws IllegalArgumentException if the sequence is null
+     * @throws RandomSequenceException if the batchSize is less or equal to 0
+     */
+    public RandomSequenceDispenser(final RandomSequence<T> sequence, final int batchSize) {
+        if(sequence == null) {
+            throw new IllegalArgumentException("Error. The sequence to dispense can not be null.");
+        }
+        if(batchSize <= 0) {
+            throw new RandomSequenceException("Error. The size of the batches must be greater than 0. (batchSize=" +
+                    batchSize + ")");
+        }
+        this.sequence = sequence;
+        this.batchSize = batchSize;
+    }
+
+    //---- Methods ----
+    /**
+     * @return the next element of the sequence
+     * @throws RandomSequenceException if there aren't more elements to dispense to the current thread
+     */
+    public T next() {
+        if(batchSize == 1) {
+            return sequence.get(checkNotExhausted(cursor.getAndIncrement()));
+        }
+
+        int[] batch = claimed.get();
+        if(batch[0] == batch[1]) {
+            int start = checkNotExhausted(cursor.getAndAdd(batchSize));
+            batch[0] = start;
+            batch[1] = (int) Math.min((long) start + batchSize, sequence.length());
+        }
+        return sequence.get(batch[0]++);
+    }
+
+    /**
+     * <p>Claim the next 'n' elements of the sequence at once. If there aren't enough elements, the batch contains
+     * the remaining ones.</p>
+     * @param n Number of elements to claim
+     * @return a view of the claimed positions of the sequence, which is empty if the dispenser is exhausted
+     * @throws RandomSequenceException if n is less or equal to 0
+     */
+    public RandomSequence<T> nextBatch(final int n) {
+        if(n <= 0) {
+            throw new RandomSequenceException("Error. The number of elements to claim must be greater than 0. (n=" +
+                    n + ")");
+        }
+
+        int length = sequence.length();
+        if(cursor.get() >= length) {
+            return sequence.subSequence(length, length);
+        }
+        long start = Math.min(cursor.getAndAdd(n), length);
+        return sequence.subSequence((int) start, (int) Math.min(start + n, length));
+    }
+
+    /**
+     * @return true if every position of the sequence has been claimed, and the ones claimed by the calling thread
+     * have been dispensed to it
+     */
+    public boolean isExhausted() {
+        return cursor.get() >= sequence.length() && pendingOfThisThread() == 0;
+    }
+
+    /**
+     * @return the number of positions of the sequence that haven't been claimed yet, plus the ones claimed by the
+     * calling thread that haven't been dispensed to it
+     */
+    public int remaining() {
+        return (int) Math.max(0, sequence.length() - cursor.get()) + pendingOfThisThread();
+    }
+
+    private int pendingOfThisThread() {
+        if(batchSize == 1) {
+            return 0;
+        }
+        int[] batch = claimed.get();
+        return batch[1] - batch[0];
+    }
+
+    private int checkNotExhausted(final long position) {
+        if(position >= sequence.length()) {
+            throw new RandomSequenceException("Error. There aren't more elements to dispense. (length: " +
+                    sequence.length() + ")");
+        }
+        return (int) position;
+    }
+
+}
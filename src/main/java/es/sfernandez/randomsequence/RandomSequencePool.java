@@ -0,0 +1,271 @@
+package es.sfernandez.randomsequence;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * <p>A RandomSequencePool pre-generates {@link RandomSequence} in background, so they can be acquired without
+ * waiting for their creation.</p>
+ * <p>The pool generates sequences on a virtual thread until it holds 'highWaterMark' of them. Then, it stops until
+ * the number of ready sequences drops to 'lowWaterMark'.</p>
+ * <p>The source of the sequences is only called from the thread of the pool, so it's safe to use a
+ * {@link RandomSequenceBuilder} as long as it isn't modified while the pool is open.</p>
+ * <p>An example of use:
+ * <pre>
+ * <code>
+ * try(RandomSequencePool<Card> pool = new RandomSequencePool<>(new RandomSequenceBuilder<>(cards), 16, 64)) {
+ *     RandomSequence<Card> deck = pool.acquire().join();
+ * }
+ * </code>
+ * </pre>
+ * </p>
+ * @param <T> Type of elements of the sequences
+ * @see RandomSequenceBuilder
+ * @author Sergio Fernández
+ */
+public final class RandomSequencePool<T>
+            implements AutoCloseable {
+
+    //---- Attributes ----
+    private final Supplier<RandomSequence<T>> source;
+    private final int lowWaterMark, highWaterMark;
+    private final Deque<RandomSequence<T>> ready = new ArrayDeque<>();
+    private final Deque<CompletableFuture<RandomSequence<T>>> pending = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition productionNeeded = lock.newCondition();
+    private boolean refilling = true, closed = false;
+    private long hits = 0, misses = 0;
+
+    //---- Constructor ----
+    /**
+     * <p>Instantiate a new RandomSequencePool that will pre-generate sequences using the builder received.</p>
+     * @param builder Builder used to create the sequences
+     * @param lowWaterMark Number of ready sequences at which the pool starts generating again
+     * @param highWaterMark Maximum number of ready sequences hold by the pool
+     * @throws IllegalArgumentException if the builder is null
+     * @throws RandomSequenceException if the marks aren't 0 &lt;= lowWaterMark &lt;= highWaterMark and 0 &lt; highWaterMark
+     */
+    public RandomSequencePool(final RandomSequenceBuilder<T> builder, final int lowWaterMark, final int highWaterMark) {
+        this(builder == null ? null : builder::create, lowWaterMark, highWaterMark);
+    }
+
+    /**
+     * <p>Instantiate a new RandomSequencePool that will pre-generate sequences using the supplier received. It's
+     * useful to generate sequences from a {@link es.sfernandez.randomsequence.generator.RandomSequenceGenerator}.</p>
+     * @param source Supplier of the sequences
+     * @param lowWaterMark Number of ready sequences at which the pool starts generating again
+     * @param highWaterMark Maximum number of ready sequences hold by the pool
+     * @throws IllegalArgumentException if the source is null
+     * @throws RandomSequenceException if the marks aren't 0 &lt;= lowWaterMark &lt;= highWaterMark and 0 &lt; highWaterMark
+     */
+    public RandomSequencePool(final Supplier<RandomSequence<T>> source, final int lowWaterMark,
+                              final int highWaterMark) {
+        if(source == null) {
+            throw new IllegalArgumentException("Error. The source of the sequences can not be null.");
+        }
+        if(lowWaterMark < 0 || highWaterMark <= 0 || lowWaterMark > highWaterMark) {
+            throw new RandomSequenceException("Error. The water marks must satisfy 0 <= lowWaterMark <= highWaterMark " +
+                    "and 0 < highWaterMark. (lowWaterMark=" + lowWaterMark + ", highWaterMark=" + highWaterMark + ")");
+        }
+        this.source = source;
+        this.lowWaterMark = lowWaterMark;
+        this.highWaterMark = highWaterMark;
+
+        Thread.ofVirtual().name("random-sequence-pool").start(this::produce);
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Take a ready sequence from the pool without waiting.</p>
+     * @return the sequence taken, or an empty Optional if the pool didn't have any ready
+     */
+    public Optional<RandomSequence<T>> poll() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(take());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * <p>Take a sequence from the pool. If there isn't any ready, the returned future will be completed with the next
+     * sequence generated.</p>
+     * @return a future completed with the sequence taken
+     */
+    public CompletableFuture<RandomSequence<T>> acquire() {
+        lock.lock();
+        try {
+            if(closed) {
+                return CompletableFuture.failedFuture(closedException());
+            }
+
+            RandomSequence<T> sequence = take();
+            if(sequence != null) {
+                return CompletableFuture.completedFuture(sequence);
+            }
+
+            CompletableFuture<RandomSequence<T>> future = new CompletableFuture<>();
+            pending.add(future);
+            productionNeeded.signal();
+            return future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of acquisitions served by a ready sequence
+     */
+    public long hits() {
+        lock.lock();
+        try {
+            return hits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of acquisitions that found the pool without ready sequences
+     */
+    public long misses() {
+        lock.lock();
+        try {
+            return misses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the ratio of acquisitions served by a ready sequence, or 0 if there hasn't been any acquisition
+     */
+    public double hitRate() {
+        lock.lock();
+        try {
+            return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of sequences ready to be acquired
+     */
+    public int readySequences() {
+        lock.lock();
+        try {
+            return ready.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * <p>Stop the generation of sequences. Futures returned by {@link #acquire()} that weren't completed yet will
+     * complete exceptionally with a {@link RandomSequenceException}.</p>
+     */
+    @Override
+    public void close() {
+        Deque<CompletableFuture<RandomSequence<T>>> unserved;
+        lock.lock();
+        try {
+            closed = true;
+            ready.clear();
+            unserved = new ArrayDeque<>(pending);
+            pending.clear();
+            productionNeeded.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        unserved.forEach(future -> future.completeExceptionally(closedException()));
+    }
+
+    // Must be called holding the lock
+    private RandomSequence<T> take() {
+        RandomSequence<T> sequence = ready.poll();
+        if(sequence == null) {
+            ++misses;
+        } else {
+            ++hits;
+        }
+
+        if(ready.size() <= lowWaterMark && !refilling) {
+            refilling = true;
+            productionNeeded.signal();
+        }
+        return sequence;
+    }
+
+    private void produce() {
+        while(awaitProductionNeeded()) {
+            RandomSequence<T> sequence;
+            try {
+                sequence = source.get();
+            } catch(RuntimeException ex) {
+                failPending(ex);
+                continue;
+            }
+
+            deliver(sequence);
+        }
+    }
+
+    private boolean awaitProductionNeeded() {
+        lock.lock();
+        try {
+            while(!closed && !refilling && pending.isEmpty()) {
+                productionNeeded.awaitUninterruptibly();
+            }
+            return !closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliver(final RandomSequence<T> sequence) {
+        CompletableFuture<RandomSequence<T>> future;
+        lock.lock();
+        try {
+            future = pending.poll();
+            if(future == null && !closed) {
+                ready.add(sequence);
+                refilling = ready.size() < highWaterMark;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Completed outside the lock, because it runs the dependent stages of the future
+        if(future != null) {
+            future.complete(sequence);
+        }
+    }
+
+    private void failPending(final RuntimeException ex) {
+        Deque<CompletableFuture<RandomSequence<T>>> unserved;
+        lock.lock();
+        try {
+            unserved = new ArrayDeque<>(pending);
+            pending.clear();
+            // Don't retry until the sequences are requested again, to avoid spinning on a failing source
+            refilling = false;
+        } finally {
+            lock.unlock();
+        }
+
+        unserved.forEach(future -> future.completeExceptionally(ex));
+    }
+
+    private static RandomSequenceException closedException() {
+        return new RandomSequenceException("Error. The pool of sequences is closed.");
+    }
+
+}
@@ -0,0 +1,69 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>A RandomSequenceView is a {@link RandomSequence} made of some positions of another sequence, without copying
+ * them. Its positions are 'offset', 'offset + stride', 'offset + 2 * stride'... of the parent sequence, so it can
+ * represent a range of positions (stride 1) or a hand of a round-robin deal (stride equal to the number of
+ * hands).</p>
+ * <p>Views of views are flattened, so getting an element always takes one access to the original sequence.</p>
+ * @param <T> Type of elements of the sequence
+ * @author Sergio Fernández
+ */
+final class RandomSequenceView<T>
+            implements RandomSequence<T> {
+
+    //---- Attributes ----
+    private final RandomSequence<T> parent;
+    private final int offset, stride, length;
+
+    //---- Constructor ----
+    private RandomSequenceView(final RandomSequence<T> parent, final int offset, final int stride,
+                               final int length) {
+        this.parent = parent;
+        this.offset = offset;
+        this.stride = stride;
+        this.length = length;
+    }
+
+    static <T> RandomSequence<T> of(final RandomSequence<T> parent, final int offset, final int stride,
+                                    final int length) {
+        if(parent instanceof RandomSequenceView<T> view) {
+            return new RandomSequenceView<>(view.parent, view.offset + offset * view.stride, stride * view.stride,
+                    length);
+        }
+        return new RandomSequenceView<>(parent, offset, stride, length);
+    }
+
+    //---- Methods ----
+    public int length() {
+        return length;
+    }
+
+    public T get(final int position) {
+        ArrayRandomSequence.checkPosition(position, length);
+        return parent.get(offset + position * stride);
+    }
+
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < length;
+            }
+
+            @Override
+            public T next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parent.get(offset + position++ * stride);
+            }
+        };
+    }
+
+}
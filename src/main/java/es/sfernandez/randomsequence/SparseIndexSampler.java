@@ -0,0 +1,45 @@
+package es.sfernandez.randomsequence;
+
+import java.util.Random;
+
+/**
+ * <p>A SparseIndexSampler draws distinct indexes of [0, size), one by one and in random order, taking O(1) time and
+ * memory per draw regardless of the size.</p>
+ * <p>It performs a Fisher-Yates shuffle over a virtual array of the indexes, where only the positions modified by
+ * the swaps are stored, in a {@link IntIntHashMap}.</p>
+ * @author Sergio Fernández
+ */
+final class SparseIndexSampler {
+
+    //---- Attributes ----
+    private final Random rnd;
+    private final IntIntHashMap swapped;
+    private int size, drawn;
+
+    //---- Constructor ----
+    SparseIndexSampler(final Random rnd, final int expectedDraws) {
+        this.rnd = rnd;
+        this.swapped = new IntIntHashMap(expectedDraws);
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Prepare the sampler to draw about 'expectedDraws' indexes of [0, size). The caller must not draw more than
+     * 'size' indexes.</p>
+     */
+    void start(final int size, final int expectedDraws) {
+        this.size = size;
+        this.drawn = 0;
+        this.swapped.clear(expectedDraws);
+    }
+
+    int next() {
+        int randomPosition = drawn + rnd.nextInt(size - drawn);
+        int index = swapped.get(randomPosition, randomPosition);
+        // The position 'drawn' won't be read again, so only the other side of the swap is stored
+        swapped.put(randomPosition, swapped.get(drawn, drawn));
+        ++drawn;
+        return index;
+    }
+
+}
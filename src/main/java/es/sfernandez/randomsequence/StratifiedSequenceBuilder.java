@@ -0,0 +1,175 @@
+package es.sfernandez.randomsequence;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * <p>A StratifiedSequenceBuilder generates {@link RandomSequence} that take an exact number of elements from each
+ * group (stratum) of the available elements, disposing them randomly in the sequence.</p>
+ * <p>The group of every element is determined once, when the builder is instantiated, by the classifier received.
+ * Then, it's possible to indicate how many elements of each group must appear in the sequences. Groups without quota
+ * won't appear in them.</p>
+ * <p>An example of use:
+ * <pre>
+ * <code>
+ * Iterable<Integer> elements = IntStream.range(0, 100).boxed().toList();
+ *   RandomSequence<Integer> sequence = new StratifiedSequenceBuilder<>(elements, n -> n % 2 == 0)
+ *      .withQuota(true, 5)
+ *      .withQuota(false, 3)
+ *      .create();
+ * </code>
+ * </pre>
+ * </p>
+ * @param <T> Type of elements of the sequence
+ * @param <K> Type of the groups in which elements are classified
+ * @see RandomSequence
+ * @author Sergio Fernández
+ */
+public final class StratifiedSequenceBuilder<T, K> {
+
+    //---- Constants and Definitions ----
+    // Sampling a stratum costs O(quota), so only strata with large quotas are worth sampling in parallel
+    private static final int PARALLEL_QUOTA = 1 << 16;
+
+    private static final class Stratum {
+        private final Object[] pool;
+        private int quota;
+
+        private Stratum(final Object[] pool) {
+            this.pool = pool;
+        }
+    }
+
+    //---- Attributes ----
+    private final Random rnd;
+    private final Map<K, Stratum> strata;
+
+    //---- Constructor ----
+    /**
+     * <p>Instantiate a new StratifiedSequenceBuilder that will have available for generate {@link RandomSequence}
+     * the elements received as arguments, classified in groups by the classifier.</p>
+     * <p>By default, every group starts with a quota of 0, so generated sequences will be empty.</p>
+     * @param elems Iterable of elements
+     * @param classifier Function that returns the group of an element
+     * @throws IllegalArgumentException if the iterable 'elems' or the 'classifier' are null
+     */
+    public StratifiedSequenceBuilder(final Iterable<T> elems, final Function<? super T, ? extends K> classifier) {
+        if(elems == null) {
+            throw new IllegalArgumentException("Error. The iterable of elements available to generate the sequence " +
+                    "can not be null.");
+        }
+        if(classifier == null) {
+            throw new IllegalArgumentException("Error. The classifier of the elements can not be null.");
+        }
+        this.rnd = new Random();
+        this.strata = new LinkedHashMap<>();
+
+        Map<K, List<T>> groups = new LinkedHashMap<>();
+        elems.forEach(elem -> groups.computeIfAbsent(classifier.apply(elem), group -> new ArrayList<>()).add(elem));
+        groups.forEach((group, groupElems) -> strata.put(group, new Stratum(groupElems.toArray())));
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Configure the builder to create sequences with exactly 'quota' elements of the group indicated.</p>
+     * <p><u>Note</u>: if quota is greater than the amount of elements of the group, a RandomSequenceException will
+     * be thrown trying to create a sequence.</p>
+     * @param group Group of elements
+     * @param quota Number of elements of the group that will appear in the sequence
+     * @throws RandomSequenceException if the quota is less than 0.
+     * @return the reference of the builder
+     */
+    public StratifiedSequenceBuilder<T, K> withQuota(final K group, final int quota) {
+        if(quota < 0) {
+            throw new RandomSequenceException("Error. The quota of a group must be greater or equal to 0." +
+                    " (group=" + group + ", quota=" + quota + ")");
+        }
+
+        strata.computeIfAbsent(group, g -> new Stratum(new Object[0])).quota = quota;
+        return this;
+    }
+
+    /**
+     * <p>Create a new RandomSequence according to the current configuration.</p>
+     * @throws RandomSequenceException if the quota of some group is greater than its amount of elements
+     * @return a new {@link RandomSequence}
+     */
+    public RandomSequence<T> create() {
+        Optional<RandomSequenceException> validationException = validate();
+        if(validationException.isPresent()) {
+            throw validationException.get();
+        } else {
+            return createRandomSequence();
+        }
+    }
+
+    private Optional<RandomSequenceException> validate() {
+        for(Map.Entry<K, Stratum> entry : strata.entrySet()) {
+            Stratum stratum = entry.getValue();
+            if(stratum.quota > stratum.pool.length) {
+                return Optional.of(new RandomSequenceException("Error. The quota of a group must be less or equal " +
+                        "to its number of elements. (group=" + entry.getKey() + ", quota=" + stratum.quota +
+                        ", elements.size()=" + stratum.pool.length + ")"));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private RandomSequence<T> createRandomSequence() {
+        Stratum[] sampled = new Stratum[strata.size()];
+        int[] offsets = new int[strata.size()];
+        long[] seeds = new long[strata.size()];
+        int numOfSampled = 0, numOfParallel = 0, length = 0;
+        for(Stratum stratum : strata.values()) {
+            if(stratum.quota > 0) {
+                sampled[numOfSampled] = stratum;
+                offsets[numOfSampled] = length;
+                seeds[numOfSampled] = rnd.nextLong();
+                length += stratum.quota;
+                ++numOfSampled;
+                if(stratum.quota >= PARALLEL_QUOTA) {
+                    ++numOfParallel;
+                }
+            }
+        }
+
+        Object[] sequence = new Object[length];
+        for(int i = 0; i < numOfSampled; ++i) {
+            if(sampled[i].quota < PARALLEL_QUOTA || numOfParallel == 1) {
+                sample(sampled[i], sequence, offsets[i], new Random(seeds[i]));
+            }
+        }
+        if(numOfParallel > 1) {
+            IntStream.range(0, numOfSampled).parallel()
+                    .filter(i -> sampled[i].quota >= PARALLEL_QUOTA)
+                    .forEach(i -> sample(sampled[i], sequence, offsets[i], new Random(seeds[i])));
+        }
+
+        shuffle(sequence);
+        return ArrayRandomSequence.wrapping(sequence);
+    }
+
+    // Partial Fisher-Yates over the pool of the stratum. The pool doesn't need to be restored between sequences
+    private static void sample(final Stratum stratum, final Object[] sequence, final int offset, final Random rnd) {
+        Object[] pool = stratum.pool;
+        for(int i = 0; i < stratum.quota; ++i) {
+            swap(pool, i, i + rnd.nextInt(pool.length - i));
+            sequence[offset + i] = pool[i];
+        }
+    }
+
+    private void shuffle(final Object[] sequence) {
+        for(int i = sequence.length - 1; i > 0; --i) {
+            swap(sequence, i, rnd.nextInt(i + 1));
+        }
+    }
+
+    private static void swap(final Object[] array, final int i, final int j) {
+        Object aux = array[i];
+        array[i] = array[j];
+        array[j] = aux;
+    }
+
+}
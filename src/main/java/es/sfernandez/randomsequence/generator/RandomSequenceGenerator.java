@@ -23,6 +23,19 @@ public interface RandomSequenceGenerator<T> {
      */
     void add(final Iterable<T> elems);
 
+    /**
+     * <p>Remove the element received as argument from the generator. If it was added several times, only one of
+     * them is removed. Elements are compared by {@link Object#equals(Object)}.</p>
+     * <p>By default, generators don't support removing elements, so implementations written before this method was
+     * added keep working unchanged.</p>
+     * @param elem Element to remove
+     * @return true if the generator contained the element
+     * @throws UnsupportedOperationException if the generator doesn't support removing elements
+     */
+    default boolean remove(final T elem) {
+        throw new UnsupportedOperationException("Error. This generator doesn't support removing elements.");
+    }
+
     /**
      * <p>Remove all the elements stored by the generator.</p>
      */
@@ -50,6 +63,8 @@ public interface RandomSequenceGenerator<T> {
      * objects that are added to it. This means that the sequences generated by it, will reference to clones and not to
      * the real objects added to the generator.</p>
      * <p>You must ensure that the type of elements defines an implementation for the {@link Object#clone()} method.</p>
+     * <p><u>Note</u>: {@link #remove(Object)} compares the element received with the clones stored, so it can only
+     * remove elements whose type defines {@link Object#equals(Object)} according to their content.</p>
      * @return a new {@link RandomSequenceGenerator} that will work with clones of the elements that
      * are added to it.
      * @param <T> type of elements of the new generator. It must implement {@link Cloneable}
@@ -58,4 +73,14 @@ public interface RandomSequenceGenerator<T> {
         return new RandomSequenceGeneratorOfClones<>();
     }
 
+    /**
+     * <p>Instantiate and return a {@link WeightedRandomSequenceGenerator} that will work with the real references of
+     * the objects that are added to it, and that can draw them according to their weights.</p>
+     * @return a new {@link WeightedRandomSequenceGenerator}
+     * @param <T> type of elements of the new generator
+     */
+    static <T> WeightedRandomSequenceGenerator<T> newGeneratorWorkingWithWeights() {
+        return new RandomSequenceGeneratorOfWeights<>();
+    }
+
 }
@@ -30,6 +30,11 @@ class RandomSequenceGeneratorOfReferences<T>
         }
     }
 
+    @Override
+    public final boolean remove(T elem) {
+        return this.elems.remove(elem);
+    }
+
     @Override
     public final void clear() {
         this.elems.clear();
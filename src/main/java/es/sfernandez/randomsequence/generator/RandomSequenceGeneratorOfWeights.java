@@ -0,0 +1,229 @@
+package es.sfernandez.randomsequence.generator;
+
+import es.sfernandez.randomsequence.RandomSequence;
+import es.sfernandez.randomsequence.RandomSequenceBuilder;
+import es.sfernandez.randomsequence.RandomSequenceException;
+
+import java.util.*;
+
+/*
+ * Weights are stored in a Fenwick tree indexed by the slot of each element, so updates and draws take O(log n).
+ * Removed elements are replaced by the last one, to keep the slots compact.
+ * The nodes of the tree accumulate rounding errors with every update, and can even lose small weights completely
+ * after a huge one is undone. So the tree is rebuilt from the weights when a draw fails, and after every
+ * 'capacity' updates, which keeps the errors bounded at an amortized cost of O(1) per update.
+ */
+class RandomSequenceGeneratorOfWeights<T>
+            implements WeightedRandomSequenceGenerator<T> {
+
+    //---- Constants and Definitions ----
+    private static final int INITIAL_CAPACITY = 16;
+
+    //---- Attributes ----
+    private final Random rnd = new Random();
+    private final List<T> elems = new ArrayList<>();
+    private final Map<T, Integer> slots = new HashMap<>();
+    private double[] weights = new double[INITIAL_CAPACITY];
+    private double[] tree = new double[INITIAL_CAPACITY + 1];
+    private int positiveWeights = 0;
+    private int updatesSinceRebuild = 0;
+
+    //---- Methods ----
+    @SafeVarargs
+    @Override
+    public final void add(T... elems) {
+        this.add(Arrays.stream(elems).toList());
+    }
+
+    @Override
+    public void add(Iterable<T> elems) {
+        if(elems == null) {
+            throw new IllegalArgumentException("Error. The iterable of elements can not be null.");
+        }
+
+        for(T elem : elems) {
+            setWeight(elem, weightOf(elem) + 1);
+        }
+    }
+
+    @Override
+    public void setWeight(T elem, double weight) {
+        if(weight < 0 || !Double.isFinite(weight)) {
+            throw new RandomSequenceException("Error. The weight of an element must be a finite number greater or " +
+                    "equal to 0. (weight=" + weight + ")");
+        }
+
+        Integer slot = slots.get(elem);
+        if(slot == null) {
+            slot = append(elem);
+        }
+        changeWeight(slot, weight);
+    }
+
+    @Override
+    public double weightOf(T elem) {
+        Integer slot = slots.get(elem);
+        return slot == null ? 0 : weights[slot];
+    }
+
+    @Override
+    public boolean remove(T elem) {
+        Integer slot = slots.remove(elem);
+        if(slot == null) {
+            return false;
+        }
+
+        int last = elems.size() - 1;
+        if(slot != last) {
+            T moved = elems.get(last);
+            double movedWeight = weights[last];
+            changeWeight(last, 0);
+            changeWeight(slot, movedWeight);
+            elems.set(slot, moved);
+            slots.put(moved, slot);
+        } else {
+            changeWeight(last, 0);
+        }
+        elems.remove(last);
+
+        if(elems.isEmpty()) {
+            // Discards the rounding errors accumulated by the tree
+            Arrays.fill(tree, 0);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        elems.clear();
+        slots.clear();
+        Arrays.fill(weights, 0);
+        Arrays.fill(tree, 0);
+        positiveWeights = 0;
+        updatesSinceRebuild = 0;
+    }
+
+    @Override
+    public T draw() {
+        if(positiveWeights == 0) {
+            throw new RandomSequenceException("Error. It's not possible to draw an element if the sum of the weights " +
+                    "is 0. (elements.size()=" + elems.size() + ")");
+        }
+
+        boolean rebuilt = false;
+        while(true) {
+            double total = prefixSum(elems.size());
+            if(total > 0) {
+                int slot = findSlot(rnd.nextDouble() * total);
+                if(slot < elems.size() && weights[slot] > 0) {
+                    return elems.get(slot);
+                }
+            }
+            // Only possible because of rounding errors, which are discarded rebuilding the tree
+            if(!rebuilt) {
+                rebuildTree();
+                rebuilt = true;
+            }
+        }
+    }
+
+    @Override
+    public RandomSequence<T> draw(int length) {
+        if(length < 0) {
+            throw new RandomSequenceException("Error. The length of the sequence must be greater or equal to 0. " +
+                    "(length=" + length + ")");
+        }
+
+        List<T> drawn = new ArrayList<>(length);
+        for(int i = 0; i < length; ++i) {
+            drawn.add(draw());
+        }
+        // The builder shuffles the elements again, which doesn't change the distribution of independent draws
+        return new RandomSequenceBuilder<>(drawn).create();
+    }
+
+    @Override
+    public RandomSequenceBuilder<T> newSequence() {
+        List<T> weighted = new ArrayList<>(elems.size());
+        for(int slot = 0; slot < elems.size(); ++slot) {
+            if(weights[slot] > 0) {
+                weighted.add(elems.get(slot));
+            }
+        }
+        return new RandomSequenceBuilder<>(weighted);
+    }
+
+    private int append(final T elem) {
+        int slot = elems.size();
+        if(slot == weights.length) {
+            grow();
+        }
+        elems.add(elem);
+        slots.put(elem, slot);
+        return slot;
+    }
+
+    private void grow() {
+        weights = Arrays.copyOf(weights, weights.length * 2);
+        tree = new double[weights.length + 1];
+        rebuildTree();
+    }
+
+    // Builds the tree from the weights in O(n)
+    private void rebuildTree() {
+        Arrays.fill(tree, 0);
+        for(int i = 1; i < tree.length; ++i) {
+            tree[i] += weights[i - 1];
+            int parent = i + (i & -i);
+            if(parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        updatesSinceRebuild = 0;
+    }
+
+    private void changeWeight(final int slot, final double weight) {
+        if(weights[slot] > 0) {
+            --positiveWeights;
+        }
+        if(weight > 0) {
+            ++positiveWeights;
+        }
+
+        double delta = weight - weights[slot];
+        weights[slot] = weight;
+        if(++updatesSinceRebuild >= weights.length) {
+            rebuildTree();
+        } else {
+            for(int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    private double prefixSum(final int size) {
+        double sum = 0;
+        for(int i = size; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // Returns the first slot whose prefix sum (including itself) is greater than the target
+    private int findSlot(double target) {
+        int position = 0;
+        for(int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if(next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    // Visible for testing only. I don't use @VisibleForTesting because I would have to import too many dependencies
+    Iterable<T> getElements() {
+        return elems;
+    }
+}
@@ -0,0 +1,61 @@
+package es.sfernandez.randomsequence.generator;
+
+import es.sfernandez.randomsequence.RandomSequence;
+
+/**
+ * <p>A WeightedRandomSequenceGenerator is a {@link RandomSequenceGenerator} that assigns a weight to each of its
+ * elements, so they can be drawn with a probability proportional to it.</p>
+ * <p>Elements are identified by {@link Object#equals(Object)}. Adding an element that is already stored increases
+ * its weight by 1, instead of storing it twice.</p>
+ * <p>Sequences created by {@link #newSequence()} contain each element with a positive weight once, so an element
+ * with weight 0 never appears in them. To create sequences in which the elements appear proportionally to their
+ * weights, use {@link #draw(int)}.</p>
+ *
+ * @param <T> Type of elements to use in the sequences
+ * @author Sergio Fernández
+ */
+public interface WeightedRandomSequenceGenerator<T>
+            extends RandomSequenceGenerator<T> {
+
+    /**
+     * <p>Change the weight of the element received. If the generator doesn't store it, it's added.</p>
+     * @param elem Element whose weight will change
+     * @param weight New weight of the element
+     * @throws es.sfernandez.randomsequence.RandomSequenceException if the weight is negative or not finite
+     */
+    void setWeight(final T elem, final double weight);
+
+    /**
+     * @param elem Element whose weight will be returned
+     * @return the weight of the element, or 0 if the generator doesn't store it
+     */
+    double weightOf(final T elem);
+
+    /**
+     * <p>Remove the element received as argument from the generator, together with its whole weight. Unlike
+     * other generators, an element added several times is stored only once, so it's removed completely. To
+     * decrease its weight instead, use {@link #setWeight(Object, double)}.</p>
+     * @param elem Element to remove
+     * @return true if the generator contained the element
+     */
+    @Override
+    boolean remove(final T elem);
+
+    /**
+     * <p>Return one of the elements of the generator, chosen with a probability proportional to its weight.</p>
+     * @return the element drawn
+     * @throws es.sfernandez.randomsequence.RandomSequenceException if the sum of the weights is 0
+     */
+    T draw();
+
+    /**
+     * <p>Create a sequence of 'length' elements of the generator, each of them chosen independently with a
+     * probability proportional to its weight. So elements can appear several times in it.</p>
+     * @param length Length of the sequence
+     * @return a new {@link RandomSequence} with the elements drawn
+     * @throws es.sfernandez.randomsequence.RandomSequenceException if the length is negative, or if it's greater
+     * than 0 and the sum of the weights is 0
+     */
+    RandomSequence<T> draw(final int length);
+
+}
@@ -0,0 +1,36 @@
+package es.sfernandez.randomsequence;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <p>Measures the memory allocated by the current thread, for tests that check that an operation doesn't allocate.
+ * Tests using it are skipped on JVMs that can't measure it.</p>
+ */
+final class Allocations {
+
+    //---- Constructor ----
+    private Allocations() {}
+
+    //---- Methods ----
+    /**
+     * <p>Run the action once to warm up, and return the bytes allocated by the current thread while running it
+     * again.</p>
+     */
+    static long allocatedBytesOf(final Runnable action) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean allocationThreads
+                && allocationThreads.isThreadAllocatedMemorySupported()
+                && allocationThreads.isThreadAllocatedMemoryEnabled());
+        com.sun.management.ThreadMXBean allocationThreads = (com.sun.management.ThreadMXBean) threads;
+
+        action.run();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = allocationThreads.getThreadAllocatedBytes(threadId);
+        action.run();
+        return allocationThreads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    }
+
+}
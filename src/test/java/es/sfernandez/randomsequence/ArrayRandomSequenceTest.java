@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -60,4 +61,66 @@ class ArrayRandomSequenceTest {
         assertThat(element).isSameAs(ITERABLE_OF_ELEMS.get(position));
     }
 
-}
\ No newline at end of file
+    @Test
+    void copyInto_copiesTheSequenceFromTheOffsetTest() {
+        Foo[] array = new Foo[NUM_OF_ELEMS + 2];
+
+        sequence.copyInto(array, 2);
+
+        assertThat(array).startsWith(null, null);
+        assertThat(Arrays.copyOfRange(array, 2, array.length)).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1})
+    void copyInto_arrayWhereTheSequenceDoesNotFit_throwsExceptionTest(final int offset) {
+        Foo[] array = new Foo[NUM_OF_ELEMS];
+
+        assertThrows(RandomSequenceException.class, () -> sequence.copyInto(array, offset));
+    }
+
+    @Test
+    void copyInto_nullArray_throwsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> sequence.copyInto(null, 0));
+    }
+
+    @Test
+    void toArray_withArrayBigEnough_usesItTest() {
+        Foo[] array = new Foo[NUM_OF_ELEMS];
+
+        Foo[] result = sequence.toArray(array);
+
+        assertThat(result).isSameAs(array);
+        assertThat(result).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void toArray_withArrayTooSmall_allocatesANewOneTest() {
+        Foo[] result = sequence.toArray(new Foo[0]);
+
+        assertThat(result).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void toArray_withArrayLongerThanTheSequence_setsNullAfterTheLastElementTest() {
+        Foo[] array = Stream.generate(Foo::new).limit(NUM_OF_ELEMS + 2).toArray(Foo[]::new);
+
+        sequence.toArray(array);
+
+        assertThat(array[NUM_OF_ELEMS]).isNull();
+        assertThat(array[NUM_OF_ELEMS + 1]).isNotNull();
+    }
+
+    @Test
+    void indexOf_returnsThePositionOfTheSameElementTest() {
+        assertThat(sequence.indexOf(ITERABLE_OF_ELEMS.get(3))).isEqualTo(3);
+        assertThat(sequence.contains(ITERABLE_OF_ELEMS.get(3))).isTrue();
+    }
+
+    @Test
+    void indexOf_elementNotInTheSequence_returnsMinusOneTest() {
+        assertThat(sequence.indexOf(new Foo())).isEqualTo(-1);
+        assertThat(sequence.contains(new Foo())).isFalse();
+    }
+
+}
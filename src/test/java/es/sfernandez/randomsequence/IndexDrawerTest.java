@@ -0,0 +1,73 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexDrawerTest {
+
+    //---- Fixtures ----
+    private static final int POPULATION_SIZE = 100;
+
+    //---- Methods ----
+    private static int[] draw(final IndexDrawer drawer, final int draws) {
+        int[] drawn = IntStream.range(0, draws).map(i -> drawer.next()).toArray();
+        drawer.finish();
+        return drawn;
+    }
+
+    //---- Tests ----
+    @Test
+    void drawingWithoutRepetition_returnsDistinctIndexesTest() {
+        IndexDrawer drawer = new IndexDrawer(new Random(), POPULATION_SIZE);
+
+        for(int draws : new int[] {POPULATION_SIZE, POPULATION_SIZE / 2, 1}) {
+            drawer.start(false, 0, draws);
+
+            int[] drawn = draw(drawer, draws);
+
+            assertThat(drawn).doesNotHaveDuplicates();
+            assertThat(IntStream.range(0, POPULATION_SIZE).toArray()).contains(drawn);
+        }
+    }
+
+    @Test
+    void drawingFewIndexesWithoutRepetition_ofAHugePopulation_doesNotTouchTheWholePopulationTest() {
+        // A pool of indexes for this population wouldn't fit in memory
+        IndexDrawer drawer = new IndexDrawer(new Random(), Integer.MAX_VALUE);
+
+        drawer.start(false, 0, 10);
+
+        assertThat(draw(drawer, 10)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void drawingWithWindow_neverRepeatsAnIndexInsideTheWindowTest() {
+        int window = POPULATION_SIZE / 2;
+        IndexDrawer drawer = new IndexDrawer(new Random(), POPULATION_SIZE);
+        drawer.start(true, window, 1000);
+
+        int[] drawn = draw(drawer, 1000);
+
+        for(int i = window; i < drawn.length; ++i) {
+            assertThat(Arrays.copyOfRange(drawn, i - window, i)).doesNotContain(drawn[i]);
+        }
+    }
+
+    @Test
+    void afterDrawingWithWindow_everyIndexCanBeDrawnAgainTest() {
+        IndexDrawer drawer = new IndexDrawer(new Random(), POPULATION_SIZE);
+        drawer.start(true, POPULATION_SIZE - 1, POPULATION_SIZE * 2);
+        draw(drawer, POPULATION_SIZE / 2);
+
+        drawer.start(false, 0, POPULATION_SIZE);
+
+        assertThat(draw(drawer, POPULATION_SIZE))
+                .containsExactlyInAnyOrder(IntStream.range(0, POPULATION_SIZE).toArray());
+    }
+
+}
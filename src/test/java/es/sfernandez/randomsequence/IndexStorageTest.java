@@ -0,0 +1,86 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexStorageTest {
+
+    //---- Fixtures ----
+    private static final int LENGTH = 1000;
+
+    //---- Methods ----
+    private void checkThatStoresEveryIndex(final IndexStorage storage, final int populationSize) {
+        Random rnd = new Random(populationSize);
+        int[] expected = rnd.ints(LENGTH, 0, populationSize).toArray();
+        expected[0] = populationSize - 1;
+        expected[LENGTH - 1] = 0;
+
+        for(int i = 0; i < LENGTH; ++i) {
+            storage.set(i, expected[i]);
+        }
+
+        assertThat(storage.length()).isEqualTo(LENGTH);
+        for(int i = 0; i < LENGTH; ++i) {
+            assertThat(storage.get(i)).isEqualTo(expected[i]);
+        }
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 256})
+    void populationsOfUpTo256Elems_areStoredInBytesTest(final int populationSize) {
+        IndexStorage storage = IndexStorage.forPopulation(populationSize, LENGTH, false);
+
+        assertThat(storage).isInstanceOf(IndexStorage.OfBytes.class);
+        checkThatStoresEveryIndex(storage, populationSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {257, 65536})
+    void populationsOfUpTo65536Elems_areStoredInCharsTest(final int populationSize) {
+        IndexStorage storage = IndexStorage.forPopulation(populationSize, LENGTH, false);
+
+        assertThat(storage).isInstanceOf(IndexStorage.OfChars.class);
+        checkThatStoresEveryIndex(storage, populationSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {65537, Integer.MAX_VALUE})
+    void greaterPopulations_areStoredInIntsTest(final int populationSize) {
+        IndexStorage storage = IndexStorage.forPopulation(populationSize, LENGTH, false);
+
+        assertThat(storage).isInstanceOf(IndexStorage.OfInts.class);
+        checkThatStoresEveryIndex(storage, populationSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 52, 1000, 65537, 1 << 30, Integer.MAX_VALUE})
+    void bitPackedStorage_storesEveryIndexTest(final int populationSize) {
+        IndexStorage storage = IndexStorage.forPopulation(populationSize, LENGTH, true);
+
+        assertThat(storage).isInstanceOf(IndexStorage.BitPacked.class);
+        checkThatStoresEveryIndex(storage, populationSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {52, 1000})
+    void bitPackedStorage_overwritingAnIndex_doesNotChangeItsNeighboursTest(final int populationSize) {
+        IndexStorage storage = IndexStorage.forPopulation(populationSize, LENGTH, true);
+        for(int i = 0; i < LENGTH; ++i) {
+            storage.set(i, populationSize - 1);
+        }
+
+        for(int i = 0; i < LENGTH; i += 2) {
+            storage.set(i, 0);
+        }
+
+        for(int i = 0; i < LENGTH; ++i) {
+            assertThat(storage.get(i)).isEqualTo(i % 2 == 0 ? 0 : populationSize - 1);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedRandomSequenceTest {
+
+    //---- Constants and Definitions ----
+    private static class Foo {}
+
+    //---- Attributes ----
+    private RandomSequence<Foo> sequence;
+
+    //---- Fixtures ----
+    private static final int NUM_OF_ELEMS = 10;
+    private final List<Foo> ITERABLE_OF_ELEMS = Stream.generate(Foo::new).limit(NUM_OF_ELEMS).toList();
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        // The sequence contains the elements of the population in reverse order
+        IndexStorage indexes = IndexStorage.forPopulation(NUM_OF_ELEMS, NUM_OF_ELEMS, false);
+        for(int i = 0; i < NUM_OF_ELEMS; ++i) {
+            indexes.set(i, NUM_OF_ELEMS - 1 - i);
+        }
+        sequence = new IndexedRandomSequence<>(new Population<>(ITERABLE_OF_ELEMS), indexes);
+    }
+
+    //---- Tests ----
+    @Test
+    void sequencesLength_isEqualToNumberOfIndexesTest() {
+        assertThat(sequence.length()).isEqualTo(NUM_OF_ELEMS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, NUM_OF_ELEMS})
+    void getByPositionThat_isOutOfBoundsOfTheSequence_throwsExceptionTest(final int position) {
+        assertThrows(RandomSequenceException.class, () -> sequence.get(position));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, NUM_OF_ELEMS/2, NUM_OF_ELEMS - 1})
+    void getByPosition_returnTheElementOfThePopulationAtTheStoredIndexTest(final int position) {
+        Foo element = sequence.get(position);
+
+        assertThat(element).isSameAs(ITERABLE_OF_ELEMS.get(NUM_OF_ELEMS - 1 - position));
+    }
+
+    @Test
+    void iterator_returnsTheElementsInOrderTest() {
+        assertThat(sequence).containsExactlyElementsOf(ITERABLE_OF_ELEMS.reversed());
+    }
+
+    @Test
+    void iterator_afterTheLastElement_throwsExceptionTest() {
+        Iterator<Foo> iterator = sequence.iterator();
+        while(iterator.hasNext()) {
+            iterator.next();
+        }
+
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void indexOf_inSequenceWithoutRepetition_returnsThePositionOfTheElementTest() {
+        IndexStorage indexes = IndexStorage.forPopulation(NUM_OF_ELEMS, NUM_OF_ELEMS / 2, false);
+        for(int i = 0; i < NUM_OF_ELEMS / 2; ++i) {
+            indexes.set(i, 2 * i);
+        }
+        RandomSequence<Foo> withoutRepetition =
+                new IndexedRandomSequence<>(new Population<>(ITERABLE_OF_ELEMS), indexes, true);
+
+        for(int i = 0; i < NUM_OF_ELEMS; ++i) {
+            int expected = i % 2 == 0 ? i / 2 : -1;
+            assertThat(withoutRepetition.indexOf(ITERABLE_OF_ELEMS.get(i))).isEqualTo(expected);
+            assertThat(withoutRepetition.contains(ITERABLE_OF_ELEMS.get(i))).isEqualTo(expected >= 0);
+        }
+        assertThat(withoutRepetition.indexOf(new Foo())).isEqualTo(-1);
+    }
+
+    @Test
+    void indexOf_inSequenceWithoutRepetition_ofPopulationWithRepeatedReferences_returnsTheFirstPositionTest() {
+        Foo repeated = new Foo();
+        IndexStorage indexes = IndexStorage.forPopulation(3, 3, false);
+        indexes.set(0, 2);
+        indexes.set(1, 0);
+        indexes.set(2, 1);
+        RandomSequence<Foo> withoutRepetition =
+                new IndexedRandomSequence<>(new Population<>(List.of(repeated, new Foo(), repeated)), indexes, true);
+
+        assertThat(withoutRepetition.indexOf(repeated)).isEqualTo(0);
+    }
+
+    @Test
+    void indexOf_inSequenceWithRepetition_returnsTheFirstPositionOfTheElementTest() {
+        IndexStorage indexes = IndexStorage.forPopulation(NUM_OF_ELEMS, 3, false);
+        indexes.set(0, 4);
+        indexes.set(1, 7);
+        indexes.set(2, 7);
+        RandomSequence<Foo> withRepetition = new IndexedRandomSequence<>(new Population<>(ITERABLE_OF_ELEMS), indexes);
+
+        assertThat(withRepetition.indexOf(ITERABLE_OF_ELEMS.get(7))).isEqualTo(1);
+        assertThat(withRepetition.indexOf(ITERABLE_OF_ELEMS.get(0))).isEqualTo(-1);
+    }
+
+    @Test
+    void indexOf_inShortSequenceWithoutRepetition_doesNotIndexThePopulationTest() {
+        List<Foo> elems = Stream.generate(Foo::new).limit(1000).toList();
+        Population<Foo> population = new Population<>(elems);
+        IndexStorage indexes = IndexStorage.forPopulation(elems.size(), 3, false);
+        indexes.set(0, 500);
+        indexes.set(1, 7);
+        indexes.set(2, 999);
+        RandomSequence<Foo> shortSequence = new IndexedRandomSequence<>(population, indexes, true);
+
+        assertThat(shortSequence.indexOf(elems.get(7))).isEqualTo(1);
+        assertThat(shortSequence.indexOf(elems.get(999))).isEqualTo(2);
+        assertThat(shortSequence.indexOf(elems.get(0))).isEqualTo(-1);
+        assertThat(population.hasIndexes()).isFalse();
+    }
+
+}
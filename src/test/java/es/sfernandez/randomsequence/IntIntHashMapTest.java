@@ -0,0 +1,96 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntIntHashMapTest {
+
+    //---- Attributes ----
+    private IntIntHashMap map;
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        map = new IntIntHashMap(4);
+    }
+
+    //---- Tests ----
+    @Test
+    void getKeyNotAdded_returnsDefaultValueTest() {
+        assertThat(map.get(7, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void put_storesTheValueOfTheKeyTest() {
+        map.put(7, 3);
+
+        assertThat(map.get(7, -1)).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putAnExistingKey_replacesItsValueTest() {
+        map.put(7, 3);
+
+        map.put(7, 5);
+
+        assertThat(map.get(7, -1)).isEqualTo(5);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putMoreKeysThanExpected_keepsAllOfThemTest() {
+        int keys = 100_000;
+
+        for(int key = 0; key < keys; ++key) {
+            map.put(key * 31, key);
+        }
+
+        assertThat(map.size()).isEqualTo(keys);
+        for(int key = 0; key < keys; ++key) {
+            assertThat(map.get(key * 31, -1)).isEqualTo(key);
+        }
+    }
+
+    @Test
+    void afterClear_noKeysWillRemainTest() {
+        map.put(7, 3);
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(7, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void clearForFewerKeys_shrinksTheMapTest() {
+        for(int key = 0; key < 100_000; ++key) {
+            map.put(key, key);
+        }
+
+        map.clear(4);
+        map.put(7, 3);
+
+        assertThat(map.capacity()).isLessThanOrEqualTo(new IntIntHashMap(4).capacity());
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(7, -1)).isEqualTo(3);
+        assertThat(map.get(8, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void clearForSimilarNumberOfKeys_keepsTheCapacityTest() {
+        for(int key = 0; key < 100; ++key) {
+            map.put(key, key);
+        }
+        int capacity = map.capacity();
+
+        map.clear(100);
+
+        assertThat(map.capacity()).isEqualTo(capacity);
+        assertThat(map.size()).isZero();
+        assertThat(map.get(7, -1)).isEqualTo(-1);
+    }
+
+}
@@ -0,0 +1,41 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedPermutationTest {
+
+    //---- Tests ----
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 52, 1000, 4097})
+    void permutation_mapsEveryPositionToADifferentOneInsideTheSizeTest(final int size) {
+        KeyedPermutation permutation = new KeyedPermutation(size, 42);
+
+        int[] mapped = IntStream.range(0, size).map(permutation::apply).toArray();
+
+        assertThat(mapped).containsExactlyInAnyOrder(IntStream.range(0, size).toArray());
+    }
+
+    @Test
+    void permutationsWithTheSameSeed_areEqualTest() {
+        KeyedPermutation permutation1 = new KeyedPermutation(1000, 42);
+        KeyedPermutation permutation2 = new KeyedPermutation(1000, 42);
+
+        IntStream.range(0, 1000).forEach(i -> assertThat(permutation1.apply(i)).isEqualTo(permutation2.apply(i)));
+    }
+
+    @Test
+    void permutationsWithDifferentSeeds_areDifferentTest() {
+        KeyedPermutation permutation1 = new KeyedPermutation(1000, 42);
+        KeyedPermutation permutation2 = new KeyedPermutation(1000, 43);
+
+        assertThat(IntStream.range(0, 1000).filter(i -> permutation1.apply(i) != permutation2.apply(i)).count())
+                .isGreaterThan(900);
+    }
+
+}
@@ -0,0 +1,189 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomElementPublisherTest {
+
+    //---- Constants and Definitions ----
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        //---- Attributes ----
+        private final List<T> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        //---- Methods ----
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    //---- Fixtures ----
+    private final int NUM_OF_ELEMS = 10;
+    private final List<Integer> ITERABLE_OF_ELEMS = IntStream.range(0, NUM_OF_ELEMS).boxed().toList();
+
+    //---- Tests ----
+    @Test
+    void instantiatePublisherWithNullBuilder_throwsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> RandomElementPublisher.finite(null));
+        assertThrows(IllegalArgumentException.class, () -> RandomElementPublisher.unbounded(null));
+    }
+
+    @Test
+    void instantiateFinitePublisherWithInvalidConfiguration_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)
+                .withLength(NUM_OF_ELEMS + 1);
+
+        assertThrows(RandomSequenceException.class, () -> RandomElementPublisher.finite(builder));
+    }
+
+    @Test
+    void instantiateUnboundedPublisherWithoutRepetition_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> RandomElementPublisher.unbounded(builder));
+    }
+
+    @Test
+    void instantiateUnboundedPublisherWithWindowEqualToTheElems_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)
+                .allowRepetitionOutsideWindow(NUM_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> RandomElementPublisher.unbounded(builder));
+    }
+
+    @Test
+    void subscribeNullSubscriber_throwsNullPointerExceptionTest() {
+        RandomElementPublisher<Integer> publisher =
+                RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS));
+
+        assertThrows(NullPointerException.class, () -> publisher.subscribe(null));
+    }
+
+    @Test
+    void publisher_onlyEmitsTheElementsRequestedTest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)).subscribe(subscriber);
+        assertThat(subscriber.received).isEmpty();
+
+        subscriber.subscription.request(3);
+
+        assertThat(subscriber.received).hasSize(3);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void finitePublisher_withoutRepetition_emitsEveryElemOnceAndCompletesTest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        subscriber.subscription.request(4);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.received).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void finitePublisher_ofEmptySequence_completesWithoutRequestsTest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).withLength(0))
+                .subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void finitePublisher_withWindow_neverRepeatsAnElemInsideTheWindowTest() {
+        int window = 3;
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)
+                .allowRepetitionOutsideWindow(window)
+                .withLength(100)).subscribe(subscriber);
+
+        for(int i = 0; i < 50; ++i) {
+            subscriber.subscription.request(2);
+        }
+
+        assertThat(subscriber.received).hasSize(100);
+        for(int i = window; i < 100; ++i) {
+            assertThat(subscriber.received.subList(i - window, i)).doesNotContain(subscriber.received.get(i));
+        }
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void unboundedPublisher_emitsElementsUntilCancelledTest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        RandomElementPublisher.unbounded(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).allowRepetition())
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(1000);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1000);
+
+        assertThat(subscriber.received).hasSize(1000);
+        assertThat(ITERABLE_OF_ELEMS).containsAll(subscriber.received);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void subscriberRequestingFromOnNext_receivesEveryElementTest() {
+        List<Integer> received = new ArrayList<>();
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)).subscribe(
+                new RecordingSubscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        super.onSubscribe(subscription);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                        super.subscription.request(1);
+                    }
+                });
+
+        assertThat(received).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void requestOfZeroElements_signalsAnErrorTest() {
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        RandomElementPublisher.finite(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS)).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.received).isEmpty();
+    }
+
+}
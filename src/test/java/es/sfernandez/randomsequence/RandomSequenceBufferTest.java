@@ -0,0 +1,166 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomSequenceBufferTest {
+
+    //---- Constants and Definitions ----
+    private static class Foo {}
+
+    //---- Attributes ----
+    private RandomSequenceBuffer<Foo> buffer;
+
+    //---- Fixtures ----
+    private static final int NUM_OF_ELEMS = 10;
+    private final List<Foo> ITERABLE_OF_ELEMS = Stream.generate(Foo::new).limit(NUM_OF_ELEMS).toList();
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        buffer = new RandomSequenceBuffer<>();
+    }
+
+    //---- Methods ----
+    private static List<Foo> toList(final RandomSequence<Foo> sequence) {
+        List<Foo> list = new ArrayList<>();
+        sequence.forEach(list::add);
+        return list;
+    }
+
+    //---- Tests ----
+    @Test
+    void createABufferWithNegativeCapacity_throwsExceptionTest() {
+        assertThrows(RandomSequenceException.class, () -> new RandomSequenceBuffer<>(-1));
+    }
+
+    @Test
+    void byDefault_bufferIsEmptyTest() {
+        assertThat(buffer.length()).isEqualTo(0);
+        assertThat(buffer).isEmpty();
+    }
+
+    @Test
+    void getByPositionOfEmptyBuffer_throwsExceptionTest() {
+        RandomSequenceBuffer<Foo> withCapacity = new RandomSequenceBuffer<>(NUM_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> withCapacity.get(0));
+    }
+
+    @Test
+    void bufferGrows_whenAGreaterSequenceIsCreatedTest() {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+
+        assertThat(buffer.length()).isEqualTo(NUM_OF_ELEMS);
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(NUM_OF_ELEMS);
+    }
+
+    @Test
+    void bufferKeepsItsCapacity_whenAShorterSequenceIsCreatedTest() {
+        RandomSequenceBuilder<Foo> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+        builder.createInto(buffer);
+
+        builder.withLength(NUM_OF_ELEMS / 2).createInto(buffer);
+
+        assertThat(buffer.length()).isEqualTo(NUM_OF_ELEMS / 2);
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(NUM_OF_ELEMS);
+        assertThat(buffer).hasSize(NUM_OF_ELEMS / 2).doesNotContainNull();
+        assertThrows(RandomSequenceException.class, () -> buffer.get(NUM_OF_ELEMS / 2));
+    }
+
+    @Test
+    void copyInto_copiesOnlyTheElementsOfTheSequenceTest() {
+        RandomSequenceBuilder<Foo> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+        builder.withLength(3).createInto(buffer);
+        Foo[] array = new Foo[3];
+
+        buffer.copyInto(array, 0);
+
+        assertThat(array).containsExactlyElementsOf(buffer);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 2", "0, 11", "5, 4"})
+    void reshuffleRangeOutOfBounds_throwsExceptionTest(final int from, final int to) {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+
+        assertThrows(RandomSequenceException.class, () -> buffer.reshuffle(from, to));
+    }
+
+    @Test
+    void reshuffleRange_onlyChangesThePositionsOfTheRangeTest() {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+        List<Foo> before = toList(buffer);
+
+        buffer.reshuffle(3, 8);
+
+        List<Foo> after = toList(buffer);
+        assertThat(after.subList(0, 3)).isEqualTo(before.subList(0, 3));
+        assertThat(after.subList(8, NUM_OF_ELEMS)).isEqualTo(before.subList(8, NUM_OF_ELEMS));
+        assertThat(after.subList(3, 8)).containsExactlyInAnyOrderElementsOf(before.subList(3, 8));
+    }
+
+    @Test
+    void reshuffleRange_canProduceEveryOrderOfTheRangeTest() {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).withLength(3).createInto(buffer);
+        Set<List<Foo>> orders = new HashSet<>();
+
+        for(int i = 0; i < 1000; ++i) {
+            buffer.reshuffle(0, 3);
+            orders.add(toList(buffer));
+        }
+
+        assertThat(orders).hasSize(6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, NUM_OF_ELEMS + 1})
+    void reshuffleInvalidNumberOfPositions_throwsExceptionTest(final int k) {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+
+        assertThrows(RandomSequenceException.class, () -> buffer.reshuffle(k));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4, NUM_OF_ELEMS})
+    void reshuffleKPositions_keepsTheElementsAndChangesAtMostKPositionsTest(final int k) {
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+        List<Foo> before = toList(buffer);
+
+        buffer.reshuffle(k);
+
+        List<Foo> after = toList(buffer);
+        assertThat(after).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+        assertThat(IntStream.range(0, NUM_OF_ELEMS).filter(i -> after.get(i) != before.get(i)).count())
+                .isLessThanOrEqualTo(k);
+    }
+
+    @Test
+    void reshuffleKPositions_again_doesNotAllocateMemoryTest() {
+        int iterations = 10_000;
+        new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createInto(buffer);
+
+        long allocated = Allocations.allocatedBytesOf(() -> {
+            for(int i = 0; i < iterations; ++i) {
+                buffer.reshuffle(4);
+            }
+        });
+
+        // Allowing a few bytes for the measurement itself, which is far less than one byte per reshuffle
+        assertThat(allocated).isLessThan(iterations);
+    }
+
+}
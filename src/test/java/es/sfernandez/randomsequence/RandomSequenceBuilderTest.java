@@ -2,9 +2,17 @@ package es.sfernandez.randomsequence;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +37,14 @@ class RandomSequenceBuilderTest {
         builder = null;
     }
 
+    //---- Methods ----
+    private static List<Integer> sorted(final Iterable<Integer> elems) {
+        List<Integer> sorted = new ArrayList<>();
+        elems.forEach(sorted::add);
+        sorted.sort(null);
+        return sorted;
+    }
+
     //---- Tests ----
     @Test
     void instantiateBuilderWithoutElems_doesNotThrowExceptionTest() {
@@ -164,4 +180,214 @@ class RandomSequenceBuilderTest {
         assertThat(sequence2.get(0)).isSameAs(element);
     }
 
-}
\ No newline at end of file
+    @Test
+    void tryToConfigureWindowSmallerThanZero_throwExceptionTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> builder.allowRepetitionOutsideWindow(-1));
+    }
+
+    @Test
+    void generateSequence_withWindowGreaterOrEqualThan_availableNumberOfElems_throwExceptionTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        builder.allowRepetitionOutsideWindow(ITERABLE_OF_ELEMS.size())
+                .withLength(ITERABLE_OF_ELEMS.size() * 2);
+
+        assertThrows(RandomSequenceException.class, () -> builder.create());
+    }
+
+    @Test
+    void generateSequence_withWindowGreaterThanLength_onlyTakesIntoAccountTheLengthTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        RandomSequence<Foo> sequence = builder.allowRepetitionOutsideWindow(ITERABLE_OF_ELEMS.size() * 2)
+                .withFullLength()
+                .create();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void generateSequence_withWindow_neverRepeatsAnElemInsideTheWindowTest() {
+        int window = NUM_OF_ELEMS - 1;
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        builder.allowRepetitionOutsideWindow(window)
+                .withLength(NUM_OF_ELEMS * 20);
+
+        for(int attempt = 0; attempt < 5; ++attempt) {
+            RandomSequence<Foo> sequence = builder.create();
+
+            assertThat(sequence.length()).isEqualTo(NUM_OF_ELEMS * 20);
+            for(int i = 0; i < sequence.length(); ++i) {
+                for(int j = Math.max(0, i - window); j < i; ++j) {
+                    assertThat(sequence.get(i)).isNotSameAs(sequence.get(j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void allowRepetition_afterConfiguringAWindow_removesTheWindowTest() {
+        Foo elem = new Foo();
+        builder = new RandomSequenceBuilder<>(elem);
+
+        RandomSequence<Foo> sequence = builder.allowRepetitionOutsideWindow(1)
+                .allowRepetition()
+                .withLength(3)
+                .create();
+
+        assertThat(sequence).containsOnly(elem);
+    }
+
+    @Test
+    void generateEmptySequence_withRepetitionFromNoElems_returnEmptySequenceTest() {
+        builder = new RandomSequenceBuilder<>();
+
+        RandomSequence<Foo> sequence = builder.allowRepetition().create();
+
+        assertThat(sequence.length()).isEqualTo(0);
+    }
+
+    @Test
+    void generateSequence_withRepetitionFromNoElems_throwExceptionWithoutMentioningTheWindowTest() {
+        builder = new RandomSequenceBuilder<>();
+
+        builder.allowRepetition().withLength(3);
+
+        RandomSequenceException ex = assertThrows(RandomSequenceException.class, builder::create);
+        assertThat(ex.getMessage()).doesNotContain("window");
+    }
+
+    @Test
+    void createIntoNullBuffer_throwsExceptionTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.createInto(null));
+    }
+
+    @Test
+    void createInto_generatesTheSequenceInTheBufferTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+        RandomSequenceBuffer<Foo> buffer = new RandomSequenceBuffer<>();
+
+        RandomSequenceBuffer<Foo> result = builder.createInto(buffer);
+
+        assertThat(result).isSameAs(buffer);
+        assertThat(buffer).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void createInto_withInvalidConfiguration_throwExceptionTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        builder.withLength(ITERABLE_OF_ELEMS.size() + 1);
+
+        assertThrows(RandomSequenceException.class, () -> builder.createInto(new RandomSequenceBuffer<>()));
+    }
+
+    @Test
+    void createInto_inTheSameBuffer_doesNotAllocateMemoryTest() {
+        int iterations = 10_000;
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+        RandomSequenceBuffer<Foo> buffer = new RandomSequenceBuffer<>(NUM_OF_ELEMS);
+
+        long allocated = Allocations.allocatedBytesOf(() -> {
+            for(int i = 0; i < iterations; ++i) {
+                builder.createInto(buffer);
+            }
+        });
+
+        // Allowing a few bytes for the measurement itself, which is far less than one byte per sequence
+        assertThat(allocated).isLessThan(iterations);
+    }
+
+    @Test
+    void generateSequence_withBitPackedStorage_containsEveryElemTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        RandomSequence<Foo> sequence = builder.withBitPackedStorage().create();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {256, 257, 65536, 65537})
+    void generateSequence_fromPopulationsOfAnySize_containsEveryElemTest(final int numOfElems) {
+        List<Integer> elems = IntStream.range(0, numOfElems).boxed().toList();
+
+        RandomSequence<Integer> sequence = new RandomSequenceBuilder<>(elems).create();
+
+        assertThat(sorted(sequence)).isEqualTo(elems);
+    }
+
+    @Test
+    void indexOf_inGeneratedSequenceWithoutRepetition_isConsistentWithGetTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        RandomSequence<Foo> sequence = builder.withLength(NUM_OF_ELEMS / 2).create();
+
+        for(int i = 0; i < sequence.length(); ++i) {
+            assertThat(sequence.indexOf(sequence.get(i))).isEqualTo(i);
+        }
+        assertThat(ITERABLE_OF_ELEMS).filteredOn(sequence::contains).hasSize(NUM_OF_ELEMS / 2);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 2", "2, 2", "0, 0"})
+    void createShardOutOfBounds_throwsExceptionTest(final int shard, final int shardCount) {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> builder.createShard(42, shard, shardCount));
+    }
+
+    @Test
+    void createShard_withWindow_throwsExceptionTest() {
+        builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        builder.allowRepetitionOutsideWindow(2).withLength(NUM_OF_ELEMS * 2);
+
+        assertThrows(RandomSequenceException.class, () -> builder.createShard(42, 0, 2));
+    }
+
+    @Test
+    void createShard_withTheSameSeed_isReproducibleTest() {
+        RandomSequence<Foo> shard1 = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createShard(42, 1, 3);
+        RandomSequence<Foo> shard2 = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).createShard(42, 1, 3);
+
+        assertThat(shard1).containsExactlyElementsOf(shard2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shardsCreatedConcurrently_composeTheWholeSequenceTest(final boolean allowRepetition) throws Exception {
+        List<Integer> elems = IntStream.range(0, 10_000).boxed().toList();
+        int shardCount = 7, length = allowRepetition ? 20_000 : elems.size();
+
+        List<Future<RandomSequence<Integer>>> shards;
+        try(ExecutorService nodes = Executors.newFixedThreadPool(shardCount)) {
+            shards = IntStream.range(0, shardCount)
+                    .mapToObj(shard -> nodes.submit(() -> {
+                        RandomSequenceBuilder<Integer> node = new RandomSequenceBuilder<>(elems).withLength(length);
+                        if(allowRepetition) {
+                            node.allowRepetition();
+                        }
+                        return node.createShard(42, shard, shardCount);
+                    }))
+                    .toList();
+        }
+
+        List<Integer> sequence = new ArrayList<>();
+        for(Future<RandomSequence<Integer>> shard : shards) {
+            shard.get().forEach(sequence::add);
+        }
+        assertThat(sequence).hasSize(length);
+        assertThat(elems).containsAll(sequence);
+        if(!allowRepetition) {
+            assertThat(sorted(sequence)).isEqualTo(elems);
+            assertThat(sequence).isNotEqualTo(elems);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomSequenceDispenserTest {
+
+    //---- Attributes ----
+    private RandomSequenceDispenser<Integer> dispenser;
+
+    //---- Fixtures ----
+    private static final int NUM_OF_ELEMS = 10;
+    private final RandomSequence<Integer> SEQUENCE =
+            new ArrayRandomSequence<>(IntStream.range(0, NUM_OF_ELEMS).boxed().toList());
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        dispenser = new RandomSequenceDispenser<>(SEQUENCE);
+    }
+
+    //---- Methods ----
+    private static List<Integer> toList(final RandomSequence<Integer> sequence) {
+        List<Integer> list = new ArrayList<>();
+        sequence.forEach(list::add);
+        return list;
+    }
+
+    //---- Tests ----
+    @Test
+    void instantiateDispenserWithNullSequence_throwsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomSequenceDispenser<>(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void instantiateDispenserWithInvalidBatchSize_throwsExceptionTest(final int batchSize) {
+        assertThrows(RandomSequenceException.class, () -> new RandomSequenceDispenser<>(SEQUENCE, batchSize));
+    }
+
+    @Test
+    void next_dispensesTheElementsInOrderTest() {
+        for(int i = 0; i < NUM_OF_ELEMS; ++i) {
+            assertThat(dispenser.remaining()).isEqualTo(NUM_OF_ELEMS - i);
+            assertThat(dispenser.next()).isEqualTo(i);
+        }
+
+        assertThat(dispenser.isExhausted()).isTrue();
+        assertThat(dispenser.remaining()).isZero();
+    }
+
+    @Test
+    void next_whenExhausted_throwsExceptionTest() {
+        for(int i = 0; i < NUM_OF_ELEMS; ++i) {
+            dispenser.next();
+        }
+
+        assertThrows(RandomSequenceException.class, () -> dispenser.next());
+        assertThrows(RandomSequenceException.class, () -> dispenser.next());
+    }
+
+    @Test
+    void next_withBatches_dispensesEveryElementTest() {
+        dispenser = new RandomSequenceDispenser<>(SEQUENCE, 3);
+
+        List<Integer> dispensed = new ArrayList<>();
+        for(int i = 0; i < NUM_OF_ELEMS; ++i) {
+            dispensed.add(dispenser.next());
+        }
+
+        assertThat(dispensed).containsExactlyElementsOf(SEQUENCE);
+        assertThrows(RandomSequenceException.class, () -> dispenser.next());
+    }
+
+    @Test
+    void isExhaustedAndRemaining_withBatches_countThePositionsClaimedByTheThreadTest() {
+        dispenser = new RandomSequenceDispenser<>(SEQUENCE, 4);
+        List<Integer> dispensed = new ArrayList<>();
+
+        while(!dispenser.isExhausted()) {
+            assertThat(dispenser.remaining()).isEqualTo(NUM_OF_ELEMS - dispensed.size());
+            dispensed.add(dispenser.next());
+        }
+
+        assertThat(dispensed).containsExactlyElementsOf(toList(SEQUENCE));
+        assertThat(dispenser.remaining()).isZero();
+        assertThrows(RandomSequenceException.class, () -> dispenser.next());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void nextBatchOfInvalidSize_throwsExceptionTest(final int n) {
+        assertThrows(RandomSequenceException.class, () -> dispenser.nextBatch(n));
+    }
+
+    @Test
+    void nextBatch_dispensesTheNextElementsUntilExhaustedTest() {
+        assertThat(dispenser.nextBatch(4)).containsExactly(0, 1, 2, 3);
+        assertThat(dispenser.next()).isEqualTo(4);
+        assertThat(dispenser.nextBatch(4)).containsExactly(5, 6, 7, 8);
+        assertThat(dispenser.nextBatch(4)).containsExactly(9);
+        assertThat(dispenser.nextBatch(4)).isEmpty();
+        assertThat(dispenser.isExhausted()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7})
+    void dispenserSharedByManyThreads_dispensesEveryElementOnceTest(final int batchSize) {
+        RandomSequence<Integer> sequence =
+                new RandomSequenceBuilder<>(IntStream.range(0, 100_000).boxed().toList()).create();
+        dispenser = new RandomSequenceDispenser<>(sequence, batchSize);
+        List<Integer> dispensed = Collections.synchronizedList(new ArrayList<>());
+
+        try(ExecutorService workers = Executors.newFixedThreadPool(64)) {
+            for(int worker = 0; worker < 64; ++worker) {
+                workers.submit(() -> {
+                    List<Integer> drawn = new ArrayList<>();
+                    try {
+                        while(true) {
+                            drawn.add(dispenser.next());
+                            drawn.addAll(toList(dispenser.nextBatch(3)));
+                        }
+                    } catch(RandomSequenceException exhausted) {
+                        // The worker finishes when there aren't more elements for it
+                    }
+                    dispensed.addAll(drawn);
+                });
+            }
+        }
+
+        dispensed.sort(null);
+        assertThat(dispensed).isEqualTo(IntStream.range(0, sequence.length()).boxed().toList());
+    }
+
+}
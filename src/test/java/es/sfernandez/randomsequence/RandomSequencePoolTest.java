@@ -0,0 +1,153 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomSequencePoolTest {
+
+    //---- Attributes ----
+    private RandomSequencePool<Integer> pool;
+
+    //---- Fixtures ----
+    private final int NUM_OF_ELEMS = 10;
+    private final List<Integer> ITERABLE_OF_ELEMS = IntStream.range(0, NUM_OF_ELEMS).boxed().toList();
+    private final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    //---- Configuration ----
+    @AfterEach
+    void tearDown() {
+        if(pool != null) {
+            pool.close();
+        }
+    }
+
+    //---- Tests ----
+    @Test
+    void instantiatePoolWithNullBuilder_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = null;
+
+        assertThrows(IllegalArgumentException.class, () -> new RandomSequencePool<>(builder, 1, 2));
+    }
+
+    @Test
+    void instantiatePoolWithLowWaterMarkGreaterThanHighWaterMark_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> new RandomSequencePool<>(builder, 3, 2));
+    }
+
+    @Test
+    void instantiatePoolWithHighWaterMarkEqualToZero_throwsExceptionTest() {
+        RandomSequenceBuilder<Integer> builder = new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> new RandomSequencePool<>(builder, 0, 0));
+    }
+
+    @Test
+    void pool_pregeneratesSequencesUntilHighWaterMarkTest() {
+        pool = new RandomSequencePool<>(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS), 2, 5);
+
+        await().atMost(TIMEOUT).until(() -> pool.readySequences() == 5);
+        assertThat(pool.readySequences()).isEqualTo(5);
+    }
+
+    @Test
+    void poll_returnsSequencesGeneratedByTheBuilderTest() {
+        pool = new RandomSequencePool<>(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS), 2, 5);
+        await().atMost(TIMEOUT).until(() -> pool.readySequences() == 5);
+
+        RandomSequence<Integer> sequence = pool.poll().orElseThrow();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+        assertThat(pool.hits()).isEqualTo(1);
+        assertThat(pool.hitRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void poll_refillsThePoolWhenReachesLowWaterMarkTest() {
+        pool = new RandomSequencePool<>(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS), 2, 5);
+        await().atMost(TIMEOUT).until(() -> pool.readySequences() == 5);
+
+        for(int i = 0; i < 3; ++i) {
+            pool.poll();
+        }
+
+        await().atMost(TIMEOUT).until(() -> pool.readySequences() == 5);
+    }
+
+    @Test
+    void poll_withoutReadySequences_returnsEmptyAndCountsAMissTest() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<RandomSequence<Integer>> blockedSource = () -> {
+            try {
+                release.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).create();
+        };
+        pool = new RandomSequencePool<>(blockedSource, 0, 1);
+
+        assertThat(pool.poll()).isEmpty();
+        assertThat(pool.misses()).isEqualTo(1);
+        assertThat(pool.hitRate()).isEqualTo(0.0);
+        release.countDown();
+    }
+
+    @Test
+    void acquire_withoutReadySequences_isCompletedWithTheNextSequenceGeneratedTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<RandomSequence<Integer>> blockedSource = () -> {
+            try {
+                release.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS).create();
+        };
+        pool = new RandomSequencePool<>(blockedSource, 0, 1);
+
+        CompletableFuture<RandomSequence<Integer>> future = pool.acquire();
+        assertThat(future).isNotDone();
+        release.countDown();
+
+        assertThat(future.join()).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void acquire_afterClose_isCompletedExceptionallyTest() {
+        pool = new RandomSequencePool<>(new RandomSequenceBuilder<>(ITERABLE_OF_ELEMS), 1, 2);
+        pool.close();
+
+        CompletableFuture<RandomSequence<Integer>> future = pool.acquire();
+
+        CompletionException ex = assertThrows(CompletionException.class, future::join);
+        assertThat(ex).hasCauseInstanceOf(RandomSequenceException.class);
+    }
+
+    @Test
+    void acquire_whenSourceFails_isCompletedExceptionallyTest() {
+        Supplier<RandomSequence<Integer>> failingSource = () -> {
+            throw new RandomSequenceException("Error.");
+        };
+        pool = new RandomSequencePool<>(failingSource, 0, 1);
+
+        CompletableFuture<RandomSequence<Integer>> future = pool.acquire();
+
+        CompletionException ex = assertThrows(CompletionException.class, future::join);
+        assertThat(ex).hasCauseInstanceOf(RandomSequenceException.class);
+    }
+
+}
@@ -0,0 +1,103 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RandomSequenceViewTest {
+
+    //---- Attributes ----
+    private RandomSequence<Integer> sequence;
+
+    //---- Fixtures ----
+    private static final int NUM_OF_ELEMS = 10;
+    private final List<Integer> ITERABLE_OF_ELEMS = IntStream.range(0, NUM_OF_ELEMS).boxed().toList();
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        sequence = new ArrayRandomSequence<>(ITERABLE_OF_ELEMS);
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @CsvSource({"-1, 2", "0, 11", "5, 4"})
+    void subSequenceOutOfBounds_throwsExceptionTest(final int from, final int to) {
+        assertThrows(RandomSequenceException.class, () -> sequence.subSequence(from, to));
+    }
+
+    @Test
+    void subSequence_containsThePositionsOfTheRangeTest() {
+        RandomSequence<Integer> subSequence = sequence.subSequence(2, 6);
+
+        assertThat(subSequence.length()).isEqualTo(4);
+        assertThat(subSequence).containsExactly(2, 3, 4, 5);
+        assertThat(subSequence.get(3)).isEqualTo(5);
+    }
+
+    @Test
+    void emptySubSequence_hasNoElementsTest() {
+        RandomSequence<Integer> subSequence = sequence.subSequence(4, 4);
+
+        assertThat(subSequence).isEmpty();
+        assertThrows(RandomSequenceException.class, () -> subSequence.get(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 4})
+    void getByPositionThat_isOutOfBoundsOfTheView_throwsExceptionTest(final int position) {
+        RandomSequence<Integer> subSequence = sequence.subSequence(2, 6);
+
+        assertThrows(RandomSequenceException.class, () -> subSequence.get(position));
+    }
+
+    @Test
+    void subSequenceOfSubSequence_isAViewOfTheOriginalSequenceTest() {
+        RandomSequence<Integer> subSequence = sequence.subSequence(2, 8).subSequence(1, 3);
+
+        assertThat(subSequence).containsExactly(3, 4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void dealInvalidNumberOfHands_throwsExceptionTest(final int hands) {
+        assertThrows(RandomSequenceException.class, () -> sequence.deal(hands));
+    }
+
+    @Test
+    void deal_givesTheElementsInTurnTest() {
+        List<RandomSequence<Integer>> hands = sequence.deal(3);
+
+        assertThat(hands).hasSize(3);
+        assertThat(hands.get(0)).containsExactly(0, 3, 6, 9);
+        assertThat(hands.get(1)).containsExactly(1, 4, 7);
+        assertThat(hands.get(2)).containsExactly(2, 5, 8);
+    }
+
+    @Test
+    void deal_moreHandsThanElements_leavesEmptyHandsTest() {
+        List<RandomSequence<Integer>> hands = sequence.deal(NUM_OF_ELEMS + 2);
+
+        assertThat(hands.get(NUM_OF_ELEMS - 1)).containsExactly(NUM_OF_ELEMS - 1);
+        assertThat(hands.get(NUM_OF_ELEMS)).isEmpty();
+        assertThat(hands.get(NUM_OF_ELEMS + 1)).isEmpty();
+    }
+
+    @Test
+    void dealOfSubSequence_isAViewOfTheOriginalSequenceTest() {
+        List<RandomSequence<Integer>> hands = sequence.subSequence(1, 9).deal(2);
+
+        assertThat(hands.get(0)).containsExactly(1, 3, 5, 7);
+        assertThat(hands.get(1)).containsExactly(2, 4, 6, 8);
+        assertThat(hands.get(1).subSequence(1, 3)).containsExactly(4, 6);
+    }
+
+}
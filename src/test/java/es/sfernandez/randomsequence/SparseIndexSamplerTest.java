@@ -0,0 +1,53 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparseIndexSamplerTest {
+
+    //---- Attributes ----
+    private SparseIndexSampler sampler;
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        sampler = new SparseIndexSampler(new Random(), 4);
+    }
+
+    //---- Tests ----
+    @Test
+    void drawingEveryIndex_returnsAPermutationTest() {
+        sampler.start(100, 100);
+
+        int[] drawn = IntStream.range(0, 100).map(i -> sampler.next()).toArray();
+
+        assertThat(drawn).containsExactlyInAnyOrder(IntStream.range(0, 100).toArray());
+    }
+
+    @Test
+    void drawingFewIndexesOfAHugeRange_returnsDistinctIndexesInsideItTest() {
+        sampler.start(Integer.MAX_VALUE, 1000);
+
+        int[] drawn = IntStream.range(0, 1000).map(i -> sampler.next()).toArray();
+
+        assertThat(drawn).doesNotHaveDuplicates();
+        assertThat(IntStream.of(drawn).min().orElseThrow()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void afterStart_previousDrawsAreForgottenTest() {
+        sampler.start(10, 10);
+        IntStream.range(0, 10).forEach(i -> sampler.next());
+
+        sampler.start(10, 10);
+        int[] drawn = IntStream.range(0, 10).map(i -> sampler.next()).toArray();
+
+        assertThat(drawn).containsExactlyInAnyOrder(IntStream.range(0, 10).toArray());
+    }
+
+}
@@ -0,0 +1,122 @@
+package es.sfernandez.randomsequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StratifiedSequenceBuilderTest {
+
+    //---- Attributes ----
+    private StratifiedSequenceBuilder<Integer, Boolean> builder;
+
+    //---- Fixtures ----
+    private final int NUM_OF_ELEMS = 20;
+    private final List<Integer> ITERABLE_OF_ELEMS = IntStream.range(0, NUM_OF_ELEMS).boxed().toList();
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        builder = new StratifiedSequenceBuilder<>(ITERABLE_OF_ELEMS, n -> n % 2 == 0);
+    }
+
+    //---- Tests ----
+    @Test
+    void instantiateBuilderWithNullIterable_throwsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new StratifiedSequenceBuilder<Integer, Integer>(null, n -> n));
+    }
+
+    @Test
+    void instantiateBuilderWithNullClassifier_throwsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new StratifiedSequenceBuilder<>(ITERABLE_OF_ELEMS, null));
+    }
+
+    @Test
+    void byDefault_generatedSequenceIsEmptyTest() {
+        RandomSequence<Integer> sequence = builder.create();
+
+        assertThat(sequence.length()).isEqualTo(0);
+    }
+
+    @Test
+    void tryToConfigureQuotaSmallerThanZero_throwExceptionTest() {
+        assertThrows(RandomSequenceException.class, () -> builder.withQuota(true, -1));
+    }
+
+    @Test
+    void generateSequence_withQuotaGreaterThanElemsOfTheGroup_throwExceptionTest() {
+        builder.withQuota(true, NUM_OF_ELEMS / 2 + 1);
+
+        assertThrows(RandomSequenceException.class, () -> builder.create());
+    }
+
+    @Test
+    void generateSequence_withQuotaOfUnknownGroup_throwExceptionTest() {
+        StratifiedSequenceBuilder<Integer, Integer> builderByRemainder =
+                new StratifiedSequenceBuilder<>(ITERABLE_OF_ELEMS, n -> n % 3);
+
+        builderByRemainder.withQuota(5, 1);
+
+        assertThrows(RandomSequenceException.class, builderByRemainder::create);
+    }
+
+    @Test
+    void generatedSequence_containsExactlyTheQuotaOfEachGroupTest() {
+        RandomSequence<Integer> sequence = builder.withQuota(true, 3)
+                .withQuota(false, 7)
+                .create();
+
+        assertThat(sequence.length()).isEqualTo(10);
+        assertThat(sequence).filteredOn(n -> n % 2 == 0).hasSize(3);
+        assertThat(sequence).filteredOn(n -> n % 2 != 0).hasSize(7);
+        assertThat(sequence).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generatedSequence_withFullQuotas_containsEveryElemTest() {
+        RandomSequence<Integer> sequence = builder.withQuota(true, NUM_OF_ELEMS / 2)
+                .withQuota(false, NUM_OF_ELEMS / 2)
+                .create();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void generatedSequence_fromLargeGroups_containsExactlyTheQuotaOfEachGroupTest() {
+        List<Integer> elems = IntStream.range(0, 300_000).boxed().toList();
+        StratifiedSequenceBuilder<Integer, Integer> builderByRemainder =
+                new StratifiedSequenceBuilder<>(elems, n -> n % 3);
+
+        RandomSequence<Integer> sequence = builderByRemainder.withQuota(0, 1000)
+                .withQuota(1, 2000)
+                .withQuota(2, 100_000)
+                .create();
+
+        assertThat(sequence).filteredOn(n -> n % 3 == 0).hasSize(1000);
+        assertThat(sequence).filteredOn(n -> n % 3 == 1).hasSize(2000);
+        assertThat(sequence).filteredOn(n -> n % 3 == 2).hasSize(100_000);
+        assertThat(sequence).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generatedSequence_withSeveralLargeQuotas_containsExactlyTheQuotaOfEachGroupTest() {
+        List<Integer> elems = IntStream.range(0, 300_000).boxed().toList();
+        StratifiedSequenceBuilder<Integer, Integer> builderByRemainder =
+                new StratifiedSequenceBuilder<>(elems, n -> n % 3);
+
+        RandomSequence<Integer> sequence = builderByRemainder.withQuota(0, 70_000)
+                .withQuota(1, 80_000)
+                .withQuota(2, 10)
+                .create();
+
+        assertThat(sequence).filteredOn(n -> n % 3 == 0).hasSize(70_000);
+        assertThat(sequence).filteredOn(n -> n % 3 == 1).hasSize(80_000);
+        assertThat(sequence).filteredOn(n -> n % 3 == 2).hasSize(10);
+        assertThat(sequence).doesNotHaveDuplicates();
+    }
+
+}
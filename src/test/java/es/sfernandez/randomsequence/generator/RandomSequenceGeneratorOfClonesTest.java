@@ -159,6 +159,17 @@ class RandomSequenceGeneratorOfClonesTest {
         assertThrows(RandomSequenceException.class, () -> new RandomSequenceGeneratorOfClones<>().add(element));
     }
 
+    @Test
+    void remove_deletesTheCloneEqualToTheElementTest() {
+        Foo elem = new Foo();
+        generator.add(elem);
+
+        boolean removed = generator.remove(elem);
+
+        assertThat(removed).isTrue();
+        assertThat(generator.getElements()).isEmpty();
+    }
+
     @Test
     void afterClear_noElementsWillRemainTest() {
         generator.add(ITERABLE_OF_ELEMS);
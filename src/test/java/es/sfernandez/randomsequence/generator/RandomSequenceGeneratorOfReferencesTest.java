@@ -79,6 +79,27 @@ class RandomSequenceGeneratorOfReferencesTest {
         assertThat(generator.getElements()).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
     }
 
+    @Test
+    void remove_deletesOnlyOneOccurrenceOfTheElementTest() {
+        Foo elem = new Foo();
+        generator.add(elem, elem);
+
+        boolean removed = generator.remove(elem);
+
+        assertThat(removed).isTrue();
+        assertThat(generator.getElements()).containsExactly(elem);
+    }
+
+    @Test
+    void removeElementNotAdded_returnsFalseTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+
+        boolean removed = generator.remove(new Foo());
+
+        assertThat(removed).isFalse();
+        assertThat(generator.getElements()).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
+    }
+
     @Test
     void afterClear_noElementsWillRemainTest() {
         generator.add(ITERABLE_OF_ELEMS);
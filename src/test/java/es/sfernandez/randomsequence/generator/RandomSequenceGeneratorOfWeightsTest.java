@@ -0,0 +1,250 @@
+package es.sfernandez.randomsequence.generator;
+
+import es.sfernandez.randomsequence.RandomSequence;
+import es.sfernandez.randomsequence.RandomSequenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RandomSequenceGeneratorOfWeightsTest {
+
+    //---- Constants and Definitions ----
+    static class Foo {}
+
+    //---- Attributes ----
+    private RandomSequenceGeneratorOfWeights<Foo> generator;
+
+    //---- Fixtures ----
+    private final List<Foo> ITERABLE_OF_ELEMS = Stream.generate(Foo::new).limit(5).toList();
+
+    //---- Configuration ----
+    @BeforeEach
+    void setup() {
+        generator = new RandomSequenceGeneratorOfWeights<>();
+    }
+
+    //---- Methods ----
+    private Map<Foo, Integer> countDraws(final int draws) {
+        Map<Foo, Integer> counts = new HashMap<>();
+        for(int i = 0; i < draws; ++i) {
+            counts.merge(generator.draw(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    //---- Tests ----
+    @Test
+    void addOneNullElem_doesNotThrowExceptionTest() {
+        Foo elem = null;
+
+        assertDoesNotThrow(() -> generator.add(elem));
+    }
+
+    @Test
+    void addNullIterable_throwsExceptionTest() {
+        Iterable<Foo> iterable = null;
+
+        assertThrows(IllegalArgumentException.class, () -> generator.add(iterable));
+    }
+
+    @Test
+    void addIterableOfElements_storesReferencesWithWeightOneTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+
+        assertThat(generator.getElements()).containsExactlyElementsOf(ITERABLE_OF_ELEMS);
+        ITERABLE_OF_ELEMS.forEach(elem -> assertThat(generator.weightOf(elem)).isEqualTo(1));
+    }
+
+    @Test
+    void addElementTwice_storesItOnceWithDoubleWeightTest() {
+        Foo elem = new Foo();
+
+        generator.add(elem, elem);
+
+        assertThat(generator.getElements()).containsExactly(elem);
+        assertThat(generator.weightOf(elem)).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, Double.NaN, Double.POSITIVE_INFINITY})
+    void setInvalidWeight_throwsExceptionTest(final double weight) {
+        assertThrows(RandomSequenceException.class, () -> generator.setWeight(new Foo(), weight));
+    }
+
+    @Test
+    void setWeightOfElementNotAdded_addsItTest() {
+        Foo elem = new Foo();
+
+        generator.setWeight(elem, 3.5);
+
+        assertThat(generator.getElements()).containsExactly(elem);
+        assertThat(generator.weightOf(elem)).isEqualTo(3.5);
+    }
+
+    @Test
+    void weightOfElementNotAdded_isZeroTest() {
+        assertThat(generator.weightOf(new Foo())).isZero();
+    }
+
+    @Test
+    void remove_deletesTheElementTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+
+        boolean removed = generator.remove(ITERABLE_OF_ELEMS.get(1));
+
+        assertThat(removed).isTrue();
+        assertThat(generator.getElements()).containsExactlyInAnyOrderElementsOf(
+                ITERABLE_OF_ELEMS.stream().filter(elem -> elem != ITERABLE_OF_ELEMS.get(1)).toList());
+        assertThat(generator.weightOf(ITERABLE_OF_ELEMS.get(1))).isZero();
+    }
+
+    @Test
+    void remove_ofElemAddedSeveralTimes_removesItsWholeWeightTest() {
+        Foo elem = ITERABLE_OF_ELEMS.get(0);
+        generator.add(elem, elem);
+
+        generator.remove(elem);
+
+        assertThat(generator.weightOf(elem)).isZero();
+        assertThat(generator.getElements()).isEmpty();
+    }
+
+    @Test
+    void removeElementNotAdded_returnsFalseTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+
+        assertThat(generator.remove(new Foo())).isFalse();
+    }
+
+    @Test
+    void afterClear_noElementsWillRemainTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+        assertThat(generator.getElements()).isNotEmpty();
+
+        generator.clear();
+
+        assertThat(generator.getElements()).isEmpty();
+    }
+
+    @Test
+    void drawWithoutElements_throwsExceptionTest() {
+        assertThrows(RandomSequenceException.class, () -> generator.draw());
+    }
+
+    @Test
+    void drawWithAllWeightsEqualToZero_throwsExceptionTest() {
+        ITERABLE_OF_ELEMS.forEach(elem -> generator.setWeight(elem, 0));
+
+        assertThrows(RandomSequenceException.class, () -> generator.draw());
+    }
+
+    @Test
+    void draw_neverReturnsElementsWithWeightZeroTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+        generator.setWeight(ITERABLE_OF_ELEMS.get(0), 0);
+        generator.remove(ITERABLE_OF_ELEMS.get(1));
+
+        Map<Foo, Integer> counts = countDraws(1000);
+
+        assertThat(counts).doesNotContainKeys(ITERABLE_OF_ELEMS.get(0), ITERABLE_OF_ELEMS.get(1));
+        assertThat(counts).containsKeys(ITERABLE_OF_ELEMS.subList(2, 5).toArray(Foo[]::new));
+    }
+
+    @Test
+    void draw_returnsElementsProportionallyToTheirWeightsTest() {
+        Foo light = new Foo(), heavy = new Foo();
+        generator.setWeight(light, 1);
+        generator.setWeight(heavy, 3);
+        int draws = 40_000;
+
+        Map<Foo, Integer> counts = countDraws(draws);
+
+        assertThat((double) counts.get(heavy) / draws).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    void draw_afterManyChanges_keepsTheWeightsConsistentTest() {
+        List<Foo> elems = Stream.generate(Foo::new).limit(100).toList();
+        generator.add(elems);
+        IntStream.range(0, 99).forEach(i -> generator.remove(elems.get(i)));
+
+        assertThat(Stream.generate(generator::draw).limit(100).collect(Collectors.toSet()))
+                .containsExactly(elems.get(99));
+    }
+
+    @Test
+    void draw_afterUndoingAHugeWeight_stillReturnsEveryElementTest() {
+        List<Foo> elems = Stream.generate(Foo::new).limit(8).toList();
+        generator.add(elems);
+        generator.setWeight(elems.get(0), 1e17);
+        generator.setWeight(elems.get(0), 1);
+
+        Map<Foo, Integer> counts = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> countDraws(1000));
+
+        assertThat(counts).containsOnlyKeys(elems);
+    }
+
+    @Test
+    void newSequence_createsRandomSequenceBuilderWith_generatorsElementsTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+        generator.setWeight(ITERABLE_OF_ELEMS.get(0), 10);
+
+        RandomSequence<Foo> sequence = generator.newSequence()
+                .withFullLength()
+                .notAllowRepetition()
+                .create();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS);
+    }
+
+    @Test
+    void newSequence_leavesOutTheElementsWithWeightZeroTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+        generator.setWeight(ITERABLE_OF_ELEMS.get(0), 0);
+
+        RandomSequence<Foo> sequence = generator.newSequence()
+                .withFullLength()
+                .create();
+
+        assertThat(sequence).containsExactlyInAnyOrderElementsOf(ITERABLE_OF_ELEMS.subList(1, 5));
+    }
+
+    @Test
+    void drawSequenceOfNegativeLength_throwsExceptionTest() {
+        generator.add(ITERABLE_OF_ELEMS);
+
+        assertThrows(RandomSequenceException.class, () -> generator.draw(-1));
+    }
+
+    @Test
+    void drawSequence_containsTheElementsProportionallyToTheirWeightsTest() {
+        Foo light = new Foo(), heavy = new Foo(), ignored = new Foo();
+        generator.setWeight(light, 1);
+        generator.setWeight(heavy, 3);
+        generator.setWeight(ignored, 0);
+        int length = 40_000;
+
+        RandomSequence<Foo> sequence = generator.draw(length);
+
+        assertThat(sequence.length()).isEqualTo(length);
+        assertThat(sequence).doesNotContain(ignored);
+        assertThat((double) IntStream.range(0, length).filter(i -> sequence.get(i) == heavy).count() / length)
+                .isCloseTo(0.75, within(0.02));
+    }
+
+}
@@ -1,8 +1,10 @@
 package es.sfernandez.randomsequence.generator;
 
+import es.sfernandez.randomsequence.RandomSequenceBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class RandomSequenceGeneratorTest {
 
@@ -11,6 +13,23 @@ class RandomSequenceGeneratorTest {
 
     private static class CloneableFoo implements Cloneable {}
 
+    private static class GeneratorWithoutRemove implements RandomSequenceGenerator<Foo> {
+        @SafeVarargs
+        @Override
+        public final void add(Foo... elems) {}
+
+        @Override
+        public void add(Iterable<Foo> elems) {}
+
+        @Override
+        public void clear() {}
+
+        @Override
+        public RandomSequenceBuilder<Foo> newSequence() {
+            return new RandomSequenceBuilder<>();
+        }
+    }
+
     //---- Tests ----
     @Test
     void generatorReturnedBy_newGeneratorWorkingWithReferences_isInstanceOf_RandomSequenceGeneratorOfReferencesTest() {
@@ -24,4 +43,17 @@ class RandomSequenceGeneratorTest {
         assertThat(generator).isInstanceOf(RandomSequenceGeneratorOfClones.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void generatorReturnedBy_newGeneratorWorkingWithWeights_isInstanceOf_RandomSequenceGeneratorOfWeightsTest() {
+        WeightedRandomSequenceGenerator<Foo> generator = RandomSequenceGenerator.newGeneratorWorkingWithWeights();
+        assertThat(generator).isInstanceOf(RandomSequenceGeneratorOfWeights.class);
+    }
+
+    @Test
+    void remove_inGeneratorThatDoesNotImplementIt_throwsExceptionTest() {
+        RandomSequenceGenerator<Foo> generator = new GeneratorWithoutRemove();
+
+        assertThrows(UnsupportedOperationException.class, () -> generator.remove(new Foo()));
+    }
+
+}